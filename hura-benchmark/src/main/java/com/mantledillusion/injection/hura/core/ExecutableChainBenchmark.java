@@ -0,0 +1,372 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares extending the executable chain used for cycle detection along a 50 level deep dependency chain by copying
+ * it with every level, as it used to be, to extending the linked chain, and measures injecting such a chain as a whole.
+ * <p>
+ * Run with JMH's GC profiler (<i>-prof gc</i>) to compare the allocation rates per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecutableChainBenchmark {
+
+	public static class Level00 {
+
+		public Level00(@Inject Level01 next) {
+		}
+	}
+
+	public static class Level01 {
+
+		public Level01(@Inject Level02 next) {
+		}
+	}
+
+	public static class Level02 {
+
+		public Level02(@Inject Level03 next) {
+		}
+	}
+
+	public static class Level03 {
+
+		public Level03(@Inject Level04 next) {
+		}
+	}
+
+	public static class Level04 {
+
+		public Level04(@Inject Level05 next) {
+		}
+	}
+
+	public static class Level05 {
+
+		public Level05(@Inject Level06 next) {
+		}
+	}
+
+	public static class Level06 {
+
+		public Level06(@Inject Level07 next) {
+		}
+	}
+
+	public static class Level07 {
+
+		public Level07(@Inject Level08 next) {
+		}
+	}
+
+	public static class Level08 {
+
+		public Level08(@Inject Level09 next) {
+		}
+	}
+
+	public static class Level09 {
+
+		public Level09(@Inject Level10 next) {
+		}
+	}
+
+	public static class Level10 {
+
+		public Level10(@Inject Level11 next) {
+		}
+	}
+
+	public static class Level11 {
+
+		public Level11(@Inject Level12 next) {
+		}
+	}
+
+	public static class Level12 {
+
+		public Level12(@Inject Level13 next) {
+		}
+	}
+
+	public static class Level13 {
+
+		public Level13(@Inject Level14 next) {
+		}
+	}
+
+	public static class Level14 {
+
+		public Level14(@Inject Level15 next) {
+		}
+	}
+
+	public static class Level15 {
+
+		public Level15(@Inject Level16 next) {
+		}
+	}
+
+	public static class Level16 {
+
+		public Level16(@Inject Level17 next) {
+		}
+	}
+
+	public static class Level17 {
+
+		public Level17(@Inject Level18 next) {
+		}
+	}
+
+	public static class Level18 {
+
+		public Level18(@Inject Level19 next) {
+		}
+	}
+
+	public static class Level19 {
+
+		public Level19(@Inject Level20 next) {
+		}
+	}
+
+	public static class Level20 {
+
+		public Level20(@Inject Level21 next) {
+		}
+	}
+
+	public static class Level21 {
+
+		public Level21(@Inject Level22 next) {
+		}
+	}
+
+	public static class Level22 {
+
+		public Level22(@Inject Level23 next) {
+		}
+	}
+
+	public static class Level23 {
+
+		public Level23(@Inject Level24 next) {
+		}
+	}
+
+	public static class Level24 {
+
+		public Level24(@Inject Level25 next) {
+		}
+	}
+
+	public static class Level25 {
+
+		public Level25(@Inject Level26 next) {
+		}
+	}
+
+	public static class Level26 {
+
+		public Level26(@Inject Level27 next) {
+		}
+	}
+
+	public static class Level27 {
+
+		public Level27(@Inject Level28 next) {
+		}
+	}
+
+	public static class Level28 {
+
+		public Level28(@Inject Level29 next) {
+		}
+	}
+
+	public static class Level29 {
+
+		public Level29(@Inject Level30 next) {
+		}
+	}
+
+	public static class Level30 {
+
+		public Level30(@Inject Level31 next) {
+		}
+	}
+
+	public static class Level31 {
+
+		public Level31(@Inject Level32 next) {
+		}
+	}
+
+	public static class Level32 {
+
+		public Level32(@Inject Level33 next) {
+		}
+	}
+
+	public static class Level33 {
+
+		public Level33(@Inject Level34 next) {
+		}
+	}
+
+	public static class Level34 {
+
+		public Level34(@Inject Level35 next) {
+		}
+	}
+
+	public static class Level35 {
+
+		public Level35(@Inject Level36 next) {
+		}
+	}
+
+	public static class Level36 {
+
+		public Level36(@Inject Level37 next) {
+		}
+	}
+
+	public static class Level37 {
+
+		public Level37(@Inject Level38 next) {
+		}
+	}
+
+	public static class Level38 {
+
+		public Level38(@Inject Level39 next) {
+		}
+	}
+
+	public static class Level39 {
+
+		public Level39(@Inject Level40 next) {
+		}
+	}
+
+	public static class Level40 {
+
+		public Level40(@Inject Level41 next) {
+		}
+	}
+
+	public static class Level41 {
+
+		public Level41(@Inject Level42 next) {
+		}
+	}
+
+	public static class Level42 {
+
+		public Level42(@Inject Level43 next) {
+		}
+	}
+
+	public static class Level43 {
+
+		public Level43(@Inject Level44 next) {
+		}
+	}
+
+	public static class Level44 {
+
+		public Level44(@Inject Level45 next) {
+		}
+	}
+
+	public static class Level45 {
+
+		public Level45(@Inject Level46 next) {
+		}
+	}
+
+	public static class Level46 {
+
+		public Level46(@Inject Level47 next) {
+		}
+	}
+
+	public static class Level47 {
+
+		public Level47(@Inject Level48 next) {
+		}
+	}
+
+	public static class Level48 {
+
+		public Level48(@Inject Level49 next) {
+		}
+	}
+
+	public static class Level49 {
+
+	}
+
+	private Constructor<?>[] constructors;
+	private InjectionSettings<?>[] settings;
+	private InjectionChain root;
+	private Injector injector;
+
+	@Setup
+	public void setup() {
+		Class<?>[] types = ExecutableChainBenchmark.class.getClasses();
+		Arrays.sort(types, (a, b) -> a.getName().compareTo(b.getName()));
+		this.constructors = new Constructor<?>[types.length];
+		this.settings = new InjectionSettings<?>[types.length];
+		for (int i = 0; i < types.length; i++) {
+			this.constructors[i] = ReflectionCache.getInjectableConstructor(types[i]).getConstructor();
+			this.settings[i] = InjectionSettings.of(types[i]);
+		}
+		this.root = InjectionChain.forRoot(InjectionAllocations.ofAllocations(Collections.emptyList()));
+		this.injector = Injector.of();
+	}
+
+	@Benchmark
+	public LinkedHashSet<Executable> copiedChain() {
+		LinkedHashSet<Executable> chain = new LinkedHashSet<>();
+		for (Constructor<?> constructor : this.constructors) {
+			if (chain.contains(constructor)) {
+				throw new IllegalStateException();
+			}
+			chain = new LinkedHashSet<>(chain);
+			chain.add(constructor);
+		}
+		return chain;
+	}
+
+	@Benchmark
+	public InjectionChain linkedChain() {
+		InjectionChain chain = this.root;
+		for (int i = 0; i < this.constructors.length; i++) {
+			chain = chain.extendBy(this.constructors[i], this.settings[i]);
+		}
+		return chain;
+	}
+
+	@Benchmark
+	public Object inject() {
+		Level00 bean = this.injector.instantiate(Level00.class);
+		this.injector.destroy(bean);
+		return bean;
+	}
+}
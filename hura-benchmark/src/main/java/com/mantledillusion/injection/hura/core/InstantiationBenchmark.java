@@ -0,0 +1,56 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares instantiating a bean through its generated constructor factory to instantiating it reflectively.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstantiationBenchmark {
+
+	public static class Dependency {
+
+	}
+
+	public static class Bean {
+
+		private final Dependency a;
+		private final Dependency b;
+		private final String property;
+
+		public Bean(@Inject Dependency a, @Inject Dependency b, @Resolve("property") String property) {
+			this.a = a;
+			this.b = b;
+			this.property = property;
+		}
+	}
+
+	private ReflectionCache.InjectableConstructor<Bean> constructor;
+	private Object[] params;
+
+	@Setup
+	public void setup() {
+		this.constructor = ReflectionCache.getInjectableConstructor(Bean.class);
+		this.params = new Object[] { new Dependency(), new Dependency(), "value" };
+	}
+
+	@Benchmark
+	public Bean reflection() throws InstantiationException, IllegalAccessException, InvocationTargetException {
+		return this.constructor.getConstructor().newInstance(this.params);
+	}
+
+	@Benchmark
+	public Bean factory() throws InstantiationException, IllegalAccessException, InvocationTargetException {
+		return this.constructor.instantiate(this.params);
+	}
+}
@@ -0,0 +1,133 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.event.Subscribe;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
+import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares retrieving the meta data of a freshly loaded bean type graph by scanning it reflectively (cold start) to
+ * retrieving it from a loaded meta data snapshot.
+ * <p>
+ * To simulate a start, the bean types are loaded by a new class loader before every invocation, so none of their meta
+ * data is cached yet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+	public static class Leaf {
+
+		@Resolve("${property}")
+		public String property;
+
+		@PostConstruct
+		public void postConstruct() {
+		}
+	}
+
+	public static class Node {
+
+		@Inject
+		public Leaf a;
+
+		@Inject
+		public Leaf b;
+
+		@Subscribe
+		public void onEvent(String event) {
+		}
+	}
+
+	public static class Root {
+
+		private final Node node;
+
+		@Inject
+		public Node other;
+
+		public Root(@Inject Node node) {
+			this.node = node;
+		}
+
+		@PreDestroy
+		public void preDestroy() {
+		}
+	}
+
+	private static final class IsolatingClassLoader extends ClassLoader {
+
+		private IsolatingClassLoader() {
+			super(SnapshotBenchmark.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.startsWith(SnapshotBenchmark.class.getName() + '$')) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> type = findLoadedClass(name);
+				if (type == null) {
+					byte[] bytes = readClassFile(name);
+					type = defineClass(name, bytes, 0, bytes.length, SnapshotBenchmark.class.getProtectionDomain());
+				}
+				return type;
+			}
+		}
+
+		private byte[] readClassFile(String name) throws ClassNotFoundException {
+			try (InputStream in = getResourceAsStream(name.replace('.', '/') + ".class")) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[4096];
+				int read;
+				while ((read = in.read(buffer)) >= 0) {
+					out.write(buffer, 0, read);
+				}
+				return out.toByteArray();
+			} catch (IOException | NullPointerException e) {
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+
+	@Param({"false", "true"})
+	public boolean snapshot;
+
+	private Class<?> rootType;
+
+	@Setup(Level.Trial)
+	public void setupSnapshot() throws IOException, ClassNotFoundException {
+		if (this.snapshot) {
+			Injector.preload(Collections.singleton(new IsolatingClassLoader().loadClass(Root.class.getName())));
+
+			File file = File.createTempFile("hura", ".snapshot");
+			file.deleteOnExit();
+			Injector.saveSnapshot(file);
+			Injector.loadSnapshot(file);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void setupClassLoader() throws ClassNotFoundException {
+		this.rootType = new IsolatingClassLoader().loadClass(Root.class.getName());
+	}
+
+	@Benchmark
+	public Injector.PreloadReport start() {
+		return Injector.preload(Collections.singleton(this.rootType));
+	}
+}
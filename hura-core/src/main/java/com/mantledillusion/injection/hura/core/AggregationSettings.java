@@ -5,6 +5,7 @@ import com.mantledillusion.injection.hura.core.annotation.instruction.Optional;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -24,15 +25,28 @@ final class AggregationSettings<T> {
     final Class<? extends BiPredicate<String, T>>[] predicates;
     final boolean distinct;
     final boolean optional;
+    final boolean immutable;
+    final boolean memoizable;
 
     private AggregationSettings(Class<T> type, AggregationMode aggregationMode, String qualifierMatcher,
-                                Class<? extends BiPredicate<String, T>>[] predicates, boolean distinct, boolean optional) {
+                                Class<? extends BiPredicate<String, T>>[] predicates, boolean distinct, boolean optional,
+                                boolean immutable, boolean memoized) {
         this.type = type;
         this.aggregationMode = aggregationMode;
         this.qualifierMatcher = qualifierMatcher;
         this.predicates = predicates;
         this.distinct = distinct;
         this.optional = optional;
+        this.immutable = immutable;
+        this.memoizable = immutable && memoized;
+    }
+
+    /**
+     * @param qualifierMatcher The resolved qualifier matcher; might be null.
+     * @return A key identifying the singletons aggregated by these settings in an injection sequence, never null
+     */
+    List<Object> toKey(String qualifierMatcher) {
+        return Arrays.asList(this.type, qualifierMatcher, Arrays.asList(this.predicates));
     }
 
     static <T> AggregationSettings<T> of(Class<T> type, Type genericType, Aggregate aggregate, Optional optional) {
@@ -53,6 +67,7 @@ final class AggregationSettings<T> {
         }
         return new AggregationSettings(aggregationType, aggregationMode,
                 StringUtils.defaultIfEmpty(aggregate.qualifierMatcher(), null),
-                aggregate.predicates(), aggregate.distinct(), optional != null);
+                aggregate.predicates(), aggregate.distinct(), optional != null, aggregate.immutable(),
+                aggregate.memoized());
     }
 }
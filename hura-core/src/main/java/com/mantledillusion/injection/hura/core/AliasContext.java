@@ -2,24 +2,21 @@ package com.mantledillusion.injection.hura.core;
 
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 
-import java.util.HashMap;
 import java.util.Map;
 
 final class AliasContext {
 
 	static final String ALIAS_CONTEXT_SINGLETON_ID = "_aliasContext";
 
-	private final Map<String, String> mappings = new HashMap<>();
+	private final LayeredMap<String, String> mappings;
 
 	@Construct
 	AliasContext() {
-		this(null);
+		this(new LayeredMap<>());
 	}
 
-	AliasContext(AliasContext base) {
-		if (base != null) {
-			this.mappings.putAll(base.mappings);
-		}
+	private AliasContext(LayeredMap<String, String> mappings) {
+		this.mappings = mappings;
 	}
 
 	boolean hasMapping(String qualifier) {
@@ -34,8 +31,9 @@ final class AliasContext {
 	}
 
 	AliasContext merge(Map<String, String> qualifierAllocations) {
-		AliasContext newContext = new AliasContext(this);
-		newContext.mappings.putAll(qualifierAllocations);
-		return newContext;
+		if (qualifierAllocations.isEmpty()) {
+			return this;
+		}
+		return new AliasContext(this.mappings.with(qualifierAllocations));
 	}
 }
@@ -0,0 +1,157 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.essentials.reflection.AnnotationEssentials.AnnotationOccurrence;
+import com.mantledillusion.injection.hura.core.ReflectionCache.AggregateableField;
+import com.mantledillusion.injection.hura.core.ReflectionCache.InjectableConstructor;
+import com.mantledillusion.injection.hura.core.ReflectionCache.InjectableField;
+import com.mantledillusion.injection.hura.core.ReflectionCache.ResolvableField;
+import com.mantledillusion.injection.hura.core.annotation.event.Subscribe;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Immutable summary of all the meta data of a bean type that is required to instantiate and inject it.
+ * <p>
+ * The descriptor is computed once per type, so an injection only has to retrieve a single descriptor from the
+ * {@link ReflectionCache} instead of looking up every kind of meta data separately.
+ */
+final class BeanDescriptor<T> {
+
+	private static final List<Class<? extends Annotation>> BEAN_LIFECYCLE_ANNOTATIONS = Collections.unmodifiableList(
+			Arrays.asList(PreConstruct.class, PostInject.class, PostConstruct.class, PreDestroy.class, PostDestroy.class));
+
+	private static final List<Class<? extends Annotation>> ANNOTATION_LIFECYCLE_ANNOTATIONS = Collections.unmodifiableList(
+			Arrays.asList(com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreConstruct.class,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostInject.class,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostConstruct.class,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreDestroy.class,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostDestroy.class));
+
+	private final Class<T> type;
+	private final Retrieval<InjectableConstructor<T>> constructor;
+	private final Retrieval<List<ResolvableField>> resolvableFields;
+	private final Retrieval<List<InjectableField>> injectableFields;
+	private final Retrieval<List<AggregateableField>> aggregateableFields;
+	private final Map<Class<? extends Annotation>, List<Class<?>>> annotatedSuperTypes;
+	private final Map<Class<? extends Annotation>, List<Method>> annotatedMethods;
+	private final Map<Class<? extends Annotation>, List<AnnotationOccurrence>> annotatedAnnotations;
+
+	private volatile InjectionProcessors.Template<T> processorTemplate;
+
+	private BeanDescriptor(Class<T> type) {
+		this.type = type;
+
+		Map<Class<? extends Annotation>, List<Class<?>>> annotatedSuperTypes = new IdentityHashMap<>();
+		Map<Class<? extends Annotation>, List<Method>> annotatedMethods = new IdentityHashMap<>();
+		for (Class<? extends Annotation> annotationType : BEAN_LIFECYCLE_ANNOTATIONS) {
+			annotatedSuperTypes.put(annotationType, ReflectionCache.getSuperTypesAnnotatedWith(type, annotationType));
+			annotatedMethods.put(annotationType, ReflectionCache.getMethodsAnnotatedWith(type, annotationType));
+		}
+		annotatedMethods.put(Subscribe.class, ReflectionCache.getMethodsAnnotatedWith(type, Subscribe.class));
+		this.annotatedSuperTypes = annotatedSuperTypes;
+		this.annotatedMethods = annotatedMethods;
+
+		Map<Class<? extends Annotation>, List<AnnotationOccurrence>> annotatedAnnotations = new IdentityHashMap<>();
+		for (Class<? extends Annotation> annotationType : ANNOTATION_LIFECYCLE_ANNOTATIONS) {
+			annotatedAnnotations.put(annotationType, ReflectionCache.getAnnotationsAnnotatedWith(type, annotationType));
+		}
+		this.annotatedAnnotations = annotatedAnnotations;
+
+		// TYPES WHOSE INSTANCES ARE PROVIDED OTHERWISE (INTERFACES FOR EXAMPLE) DO NOT NEED TO BE INSTANTIABLE
+		this.constructor = new Retrieval<>(() -> ReflectionCache.getInjectableConstructor(type));
+		this.resolvableFields = new Retrieval<>(() -> ReflectionCache.getResolvableFields(type));
+		this.injectableFields = new Retrieval<>(() -> ReflectionCache.getInjectableFields(type));
+		this.aggregateableFields = new Retrieval<>(() -> ReflectionCache.getAggregateableFields(type));
+	}
+
+	/*
+	 * Outcome of retrieving a part of the meta data; if retrieving it failed when the descriptor was computed, the
+	 * failure is thrown at the point in the injection the part is needed, without scanning the type again.
+	 */
+	private static final class Retrieval<V> {
+
+		private final V value;
+		private final RuntimeException failure;
+
+		private Retrieval(Supplier<V> retriever) {
+			V value = null;
+			RuntimeException failure = null;
+			try {
+				value = retriever.get();
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+			this.value = value;
+			this.failure = failure;
+		}
+
+		private V get() {
+			if (this.failure != null) {
+				throw this.failure;
+			}
+			return this.value;
+		}
+	}
+
+	Class<T> getType() {
+		return this.type;
+	}
+
+	InjectableConstructor<T> getConstructor() {
+		return this.constructor.get();
+	}
+
+	List<ResolvableField> getResolvableFields() {
+		return this.resolvableFields.get();
+	}
+
+	List<InjectableField> getInjectableFields() {
+		return this.injectableFields.get();
+	}
+
+	List<AggregateableField> getAggregateableFields() {
+		return this.aggregateableFields.get();
+	}
+
+	/**
+	 * @param annotationType One of the bean lifecycle annotations; might <b>not</b> be null.
+	 * @return The super types of the described type annotated with the given annotation, never null
+	 */
+	List<Class<?>> getSuperTypesAnnotatedWith(Class<? extends Annotation> annotationType) {
+		return this.annotatedSuperTypes.get(annotationType);
+	}
+
+	/**
+	 * @param annotationType One of the bean lifecycle annotations or {@link Subscribe}; might <b>not</b> be null.
+	 * @return The methods of the described type annotated with the given annotation, never null
+	 */
+	List<Method> getMethodsAnnotatedWith(Class<? extends Annotation> annotationType) {
+		return this.annotatedMethods.get(annotationType);
+	}
+
+	/**
+	 * @param annotationType One of the annotation lifecycle annotations; might <b>not</b> be null.
+	 * @return The occurrences of annotations annotated with the given annotation on the described type, never null
+	 */
+	List<AnnotationOccurrence> getAnnotationsAnnotatedWith(Class<? extends Annotation> annotationType) {
+		return this.annotatedAnnotations.get(annotationType);
+	}
+
+	/**
+	 * @return The described type's lifecycle processor template, which is composed on first use
+	 */
+	InjectionProcessors.Template<T> getProcessorTemplate() {
+		if (this.processorTemplate == null) {
+			this.processorTemplate = InjectionProcessors.Template.of(this);
+		}
+		return this.processorTemplate;
+	}
+
+	static <T> BeanDescriptor<T> of(Class<T> type) {
+		return new BeanDescriptor<>(type);
+	}
+}
@@ -0,0 +1,59 @@
+package com.mantledillusion.injection.hura.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Counts the requests and loads of one of Hura's caches, without synchronizing the threads using the cache.
+ */
+final class CacheCounter {
+
+	private final String name;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder failures = new LongAdder();
+	private final LongAdder loadNanos = new LongAdder();
+
+	CacheCounter(String name) {
+		this.name = name;
+	}
+
+	void request() {
+		this.requests.increment();
+	}
+
+	<E> E load(Supplier<E> loader) {
+		long start = System.nanoTime();
+		boolean loaded = false;
+		try {
+			E entry = loader.get();
+			loaded = true;
+			return entry;
+		} finally {
+			loaded(start, loaded);
+		}
+	}
+
+	/**
+	 * @param start The {@link System#nanoTime()} the load started at.
+	 * @param succeeded Whether the load succeeded.
+	 */
+	void loaded(long start, boolean succeeded) {
+		this.loads.increment();
+		this.loadNanos.add(System.nanoTime() - start);
+		if (!succeeded) {
+			this.failures.increment();
+		}
+	}
+
+	InjectionStatistics.CacheStatistics toStatistics(long entries) {
+		long loads = this.loads.sum();
+		return new InjectionStatistics.CacheStatistics(this.name, Math.max(0, this.requests.sum() - loads), loads,
+				this.failures.sum(), Duration.ofNanos(this.loadNanos.sum()), entries);
+	}
+
+	InjectionStatistics.CacheStatistics toStatistics() {
+		return toStatistics(this.loads.sum() - this.failures.sum());
+	}
+}
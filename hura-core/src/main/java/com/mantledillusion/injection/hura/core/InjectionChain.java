@@ -12,60 +12,104 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 final class InjectionChain {
 
-	private static final class InjectionLock {
+	/*
+	 * Immutable frame of the injection sequences a thread is currently hooked on, one per injection tree, linked to
+	 * the frame of the sequence the thread has been hooked on before.
+	 *
+	 * A thread is rarely hooked on more than one or two sequences at once, so walking the frames is cheaper than
+	 * maintaining a map per thread; as the frames are removed from the thread as soon as the last sequence unhooks,
+	 * short-lived threads do not retain any state.
+	 */
+	private static final class SequenceFrame {
+
+		private final Object injectionTreeLock;
+		private final Object injectionSequenceLock;
+		private final SequenceFrame previous;
 
-		private final IdentityHashMap<Object, ChainLock> locks;
+		private SequenceFrame(InjectionChain chain, SequenceFrame previous) {
+			this.injectionTreeLock = chain.singletonContext.getInjectionTreeLock();
+			this.injectionSequenceLock = chain.injectionSequenceLock;
+			this.previous = previous;
+		}
 
-		private InjectionLock() {
-			this.locks = new IdentityHashMap<>();
+		private SequenceFrame(SequenceFrame frame, SequenceFrame previous) {
+			this.injectionTreeLock = frame.injectionTreeLock;
+			this.injectionSequenceLock = frame.injectionSequenceLock;
+			this.previous = previous;
 		}
 
-		private void register(InjectionChain chain) {
-			if (this.locks.containsKey(chain.singletonContext.getInjectionTreeLock())) {
-				ChainLock lock = this.locks.get(chain.singletonContext.getInjectionTreeLock());
-				if (lock.injectionSequenceLock != chain.chainLock.injectionSequenceLock) {
-					throw new InjectionException(
-							"Cannot begin a new injection sequence during another sequence already running. Use "
-									+ TemporalInjectorCallback.class.getSimpleName()
-									+ " for manually triggered in-sequence injection.");
-				}
+		private SequenceFrame without(Object injectionTreeLock) {
+			if (this.injectionTreeLock == injectionTreeLock) {
+				return this.previous;
+			} else if (this.previous == null) {
+				return this;
 			} else {
-				this.locks.put(chain.singletonContext.getInjectionTreeLock(), chain.chainLock);
+				SequenceFrame previous = this.previous.without(injectionTreeLock);
+				return previous == this.previous ? this : new SequenceFrame(this, previous);
 			}
 		}
+	}
 
-		private boolean isFromChain(InjectionChain chain) {
-			return this.locks.containsKey(chain.singletonContext.getInjectionTreeLock())
-					&& this.locks.get(chain.singletonContext.getInjectionTreeLock()).isFromChain(chain);
-		}
+	private static final ThreadLocal<SequenceFrame> THREAD_SEQUENCE_FRAME = new ThreadLocal<>();
 
-		private void unregister(InjectionChain chain) {
-			this.locks.remove(chain.singletonContext.getInjectionTreeLock());
-		}
-	}
+	/*
+	 * Immutable chain of the executables on the path of an injection, linked to the chain of its parent executable,
+	 * so extending a chain neither copies it nor changes the chains of other paths sharing the same parent.
+	 *
+	 * Every link carries a 64 bit bloom filter of all executables up the chain; checking whether an executable is
+	 * contained only walks the chain if the executable's bits are all set.
+	 */
+	private static final class ExecutableChain {
 
-	private final class ChainLock {
+		private static final ExecutableChain EMPTY = new ExecutableChain(null, null, 0L);
 
-		private final Object injectionSequenceLock;
+		private final Executable executable;
+		private final ExecutableChain parent;
+		private final long filter;
 
-		private ChainLock() {
-			this.injectionSequenceLock = new Object();
+		private ExecutableChain(Executable executable, ExecutableChain parent, long filter) {
+			this.executable = executable;
+			this.parent = parent;
+			this.filter = filter;
 		}
 
-		private ChainLock(ChainLock parentLock) {
-			this.injectionSequenceLock = parentLock.injectionSequenceLock;
+		private ExecutableChain extendBy(Executable executable) {
+			return new ExecutableChain(executable, this, this.filter | bitsOf(executable));
 		}
 
-		private boolean isFromChain(InjectionChain other) {
-			return other == InjectionChain.this;
+		private boolean contains(Executable executable) {
+			long bits = bitsOf(executable);
+			if ((this.filter & bits) != bits) {
+				return false;
+			}
+			for (ExecutableChain link = this; link.executable != null; link = link.parent) {
+				if (link.executable == executable || link.executable.equals(executable)) {
+					return true;
+				}
+			}
+			return false;
 		}
-	}
 
-	private static final ThreadLocal<InjectionLock> THREAD_INJECTION_LOCK = new ThreadLocal<>();
+		private List<Executable> toList() {
+			LinkedList<Executable> executables = new LinkedList<>();
+			for (ExecutableChain link = this; link.executable != null; link = link.parent) {
+				executables.addFirst(link.executable);
+			}
+			return executables;
+		}
+
+		private static long bitsOf(Executable executable) {
+			int hash = executable.hashCode() * 0x9E3779B9;
+			return (1L << (hash & 63)) | (1L << ((hash >>> 6) & 63));
+		}
+	}
 
 	private enum DependencyContext {
 		INDEPENDENT, SEQUENCE;
@@ -89,8 +133,8 @@ final class InjectionChain {
 	private final TypeContext typeContext;
 
 	// Injection Chain
-	private final ChainLock chainLock;
-	private final LinkedHashSet<Executable> executableChain;
+	private final Object injectionSequenceLock;
+	private final ExecutableChain executableChain;
 	private final DependencyContext dependency;
 	private final Bus.EventBackbone eventBackbone;
 
@@ -103,8 +147,8 @@ final class InjectionChain {
 
 	private InjectionChain(SingletonContext singletonContext, ResolvingContext resolvingContext, AliasContext aliasContext,
 						   TypeContext typeContext,
-						   Map<String, AbstractAllocator<?>> sequenceSingletonAllocations, ChainLock chainLock,
-						   LinkedHashSet<Executable> executableChain, DependencyContext dependency,
+						   Map<String, AbstractAllocator<?>> sequenceSingletonAllocations, Object injectionSequenceLock,
+						   ExecutableChain executableChain, DependencyContext dependency,
 						   Bus.EventBackbone eventBackbone, List<SelfSustainingProcessor> aggregateables,
 						   List<SelfSustainingProcessor> activatables, List<SelfSustainingProcessor> postConstructables,
 						   List<SelfSustainingProcessor> preDestroyables, List<SelfSustainingProcessor> postDestroyables) {
@@ -115,11 +159,7 @@ final class InjectionChain {
 		
 		this.sequenceSingletonAllocations = sequenceSingletonAllocations;
 
-		if (chainLock == null) {
-			this.chainLock = new ChainLock();
-		} else {
-			this.chainLock = new ChainLock(chainLock);
-		}
+		this.injectionSequenceLock = injectionSequenceLock == null ? new Object() : injectionSequenceLock;
 		this.executableChain = executableChain;
 		this.dependency = dependency;
 		this.eventBackbone = eventBackbone;
@@ -131,25 +171,83 @@ final class InjectionChain {
 		this.postDestroyables = postDestroyables;
 	}
 
-	void hookOnThread() {
-		if (THREAD_INJECTION_LOCK.get() == null) {
-			THREAD_INJECTION_LOCK.set(new InjectionLock());
+	/**
+	 * Hooks the current thread on this chain's injection sequence, if it is not already hooked on it.
+	 *
+	 * @return True if the thread has been hooked by this call, so it has to be unhooked using
+	 * {@link #unhookFromThread()}; false if the thread already was hooked on the sequence
+	 * @throws InjectionException If the thread is hooked on another sequence of the same injection tree
+	 */
+	boolean hookOnThread() {
+		SequenceFrame current = THREAD_SEQUENCE_FRAME.get();
+		Object injectionTreeLock = this.singletonContext.getInjectionTreeLock();
+		for (SequenceFrame frame = current; frame != null; frame = frame.previous) {
+			if (frame.injectionTreeLock == injectionTreeLock) {
+				if (frame.injectionSequenceLock != this.injectionSequenceLock) {
+					throw new InjectionException(
+							"Cannot begin a new injection sequence during another sequence already running. Use "
+									+ TemporalInjectorCallback.class.getSimpleName()
+									+ " for manually triggered in-sequence injection.");
+				}
+				return false;
+			}
 		}
-		THREAD_INJECTION_LOCK.get().register(this);
+		THREAD_SEQUENCE_FRAME.set(new SequenceFrame(this, current));
+		return true;
 	}
 
 	void unhookFromThread() {
-		if (THREAD_INJECTION_LOCK.get().isFromChain(this)) {
-			clearHook();
-		}
+		clearHook();
 	}
 
 	void clearHook() {
-		if (THREAD_INJECTION_LOCK.get() != null) {
-			THREAD_INJECTION_LOCK.get().unregister(this);
+		SequenceFrame current = THREAD_SEQUENCE_FRAME.get();
+		if (current != null) {
+			SequenceFrame remaining = current.without(this.singletonContext.getInjectionTreeLock());
+			if (remaining == null) {
+				THREAD_SEQUENCE_FRAME.remove();
+			} else if (remaining != current) {
+				THREAD_SEQUENCE_FRAME.set(remaining);
+			}
 		}
 	}
 
+	/**
+	 * Prepares the given task for being run on another thread as a part of this chain's injection sequence.
+	 * <p>
+	 * The returned task runs with all injection sequences the current thread is hooked on; whatever sequences the
+	 * thread running it is hooked on are suspended while it runs, so it can be run by any worker thread, even one
+	 * that is waiting for another sequence's task.
+	 *
+	 * @param task The task to prepare; might <b>not</b> be null.
+	 * @return The prepared task, never null
+	 */
+	Runnable fork(Runnable task) {
+		SequenceFrame forking = THREAD_SEQUENCE_FRAME.get();
+		SequenceFrame forked = new SequenceFrame(this,
+				forking == null ? null : forking.without(this.singletonContext.getInjectionTreeLock()));
+		return () -> {
+			SequenceFrame previous = THREAD_SEQUENCE_FRAME.get();
+			THREAD_SEQUENCE_FRAME.set(forked);
+			try {
+				task.run();
+			} finally {
+				if (previous == null) {
+					THREAD_SEQUENCE_FRAME.remove();
+				} else {
+					THREAD_SEQUENCE_FRAME.set(previous);
+				}
+			}
+		};
+	}
+
+	/**
+	 * @return True if no bean up the chain is a singleton, false otherwise
+	 */
+	boolean isIndependent() {
+		return this.dependency == DependencyContext.INDEPENDENT;
+	}
+
 	InjectionChain extendBy(InjectionAllocations allocations) {
 		if (!allocations.getSingletonAllocations().isEmpty()) {
 			throw new BlueprintException("There are " + allocations.getSingletonAllocations().size()
@@ -162,8 +260,14 @@ final class InjectionChain {
 		AliasContext aliasContext = this.aliasContext.merge(allocations.getAliasAllocations());
 		TypeContext typeContext = this.typeContext.merge(allocations.getTypeAllocations());
 
+		// AN EMPTY ADJUSTMENT DOES NOT CHANGE ANY CONTEXT, SO THE CHAIN CAN BE USED AS IT IS
+		if (resolvingContext == this.resolvingContext && aliasContext == this.aliasContext
+				&& typeContext == this.typeContext) {
+			return this;
+		}
+
 		return new InjectionChain(this.singletonContext, resolvingContext, aliasContext, typeContext,
-				new HashMap<>(this.sequenceSingletonAllocations), this.chainLock,
+				new ConcurrentHashMap<>(this.sequenceSingletonAllocations), this.injectionSequenceLock,
 				this.executableChain, this.dependency,
 				this.eventBackbone, this.aggregateables,
 				this.activateables, this.postConstructables,
@@ -180,11 +284,10 @@ final class InjectionChain {
 			dependency = this.dependency;
 		}
 
-		LinkedHashSet<Executable> executableChain = new LinkedHashSet<>(this.executableChain);
-		executableChain.add(c);
+		ExecutableChain executableChain = this.executableChain.extendBy(c);
 
 		return new InjectionChain(this.singletonContext, this.resolvingContext, this.aliasContext, this.typeContext,
-				this.sequenceSingletonAllocations, this.chainLock,
+				this.sequenceSingletonAllocations, this.injectionSequenceLock,
 				executableChain, dependency,
 				this.eventBackbone, this.aggregateables,
 				this.activateables, this.postConstructables,
@@ -201,11 +304,10 @@ final class InjectionChain {
 			dependency = this.dependency;
 		}
 
-		LinkedHashSet<Executable> executableChain = new LinkedHashSet<>(this.executableChain);
-		executableChain.add(m);
+		ExecutableChain executableChain = this.executableChain.extendBy(m);
 
 		return new InjectionChain(this.singletonContext, this.resolvingContext, this.aliasContext, this.typeContext,
-				this.sequenceSingletonAllocations, this.chainLock,
+				this.sequenceSingletonAllocations, this.injectionSequenceLock,
 				executableChain, dependency,
 				this.eventBackbone, this.aggregateables,
 				this.activateables, this.postConstructables,
@@ -214,7 +316,7 @@ final class InjectionChain {
 
 	private String getStringifiedChainSinceExecutable(Executable e) {
 		StringBuilder sb = new StringBuilder();
-		this.executableChain.forEach(constructor -> {
+		this.executableChain.toList().forEach(constructor -> {
 			if (constructor == e || sb.length() > 0) {
 				if (sb.length() > 0) {
 					sb.append(" -> ");
@@ -236,11 +338,11 @@ final class InjectionChain {
 		singletonContext.addSingleton(Bus.QUALIFIER_BACKBONE, backbone, true, true);
 
 		return new InjectionChain(singletonContext, resolvingContext, aliasContext, typeContext,
-				allocations.getSingletonAllocations(), null,
-				new LinkedHashSet<>(), DependencyContext.INDEPENDENT,
-				backbone, new ArrayList<>(),
-				new ArrayList<>(), new ArrayList<>(),
-				new ArrayList<>(), new ArrayList<>());
+				new ConcurrentHashMap<>(allocations.getSingletonAllocations()), null,
+				ExecutableChain.EMPTY, DependencyContext.INDEPENDENT,
+				backbone, processorList(),
+				processorList(), processorList(),
+				processorList(), processorList());
 	}
 
 	static InjectionChain forInjection(Object injectionTreeLock, SingletonContext baseSingletonContext,
@@ -255,15 +357,43 @@ final class InjectionChain {
 		Bus.EventBackbone backbone = new Bus.EventBackbone(singletonContext.retrieveSingleton(Bus.QUALIFIER_BACKBONE),
 				resolvingContext.getProperty(Bus.PROPERTY_BUS_ISOLATION));
 		singletonContext.addSingleton(Bus.QUALIFIER_BACKBONE, backbone, true, true);
-		List<SelfSustainingProcessor> postDestroyables = new ArrayList<>();
+		List<SelfSustainingProcessor> postDestroyables = processorList();
 		postDestroyables.add(backbone::detachFromParent);
 
 		return new InjectionChain(singletonContext, resolvingContext, aliasContext, typeContext,
-				allocations.getSingletonAllocations(), null,
-				new LinkedHashSet<>(), DependencyContext.INDEPENDENT,
-				backbone, new ArrayList<>(),
-				new ArrayList<>(), new ArrayList<>(),
-				new ArrayList<>(), postDestroyables);
+				new ConcurrentHashMap<>(allocations.getSingletonAllocations()), null,
+				ExecutableChain.EMPTY, DependencyContext.INDEPENDENT,
+				backbone, processorList(),
+				processorList(), processorList(),
+				processorList(), postDestroyables);
+	}
+
+	/**
+	 * Derives a chain for instantiating a lazily injected bean as a child sequence of this chain's injection sequence.
+	 * <p>
+	 * The lazily injected bean might be instantiated long after this chain's sequence has finished, while its beans
+	 * are in use; so the derived chain adds the singletons it creates to its own context on top of this chain's, and
+	 * collects the processors of the beans it instantiates separately.
+	 *
+	 * @return A new chain, never null
+	 */
+	InjectionChain forLazyInjection() {
+		SingletonContext singletonContext = new SingletonContext(this.singletonContext.getInjectionTreeLock(),
+				this.singletonContext, this.resolvingContext, this.aliasContext, this.typeContext);
+
+		return new InjectionChain(singletonContext, this.resolvingContext, this.aliasContext, this.typeContext,
+				new ConcurrentHashMap<>(this.sequenceSingletonAllocations), null,
+				this.executableChain, this.dependency,
+				this.eventBackbone, processorList(),
+				processorList(), processorList(),
+				processorList(), processorList());
+	}
+
+	/*
+	 * Beans of an injection sequence might be injected concurrently, so processors might be appended concurrently.
+	 */
+	private static List<SelfSustainingProcessor> processorList() {
+		return Collections.synchronizedList(new ArrayList<>());
 	}
 
 	// SingletonAllocation Allocation
@@ -305,6 +435,14 @@ final class InjectionChain {
 		return this.singletonContext.aggregate(type, biPredicates);
 	}
 
+	<T> Stream<T> stream(Class<T> type, Collection<BiPredicate<String, T>> biPredicates) {
+		return this.singletonContext.stream(type, biPredicates);
+	}
+
+	<V> V memoize(Object key, Supplier<V> supplier) {
+		return this.singletonContext.memoize(key, supplier);
+	}
+
 	// Resolving Context
 	ResolvingContext getResolvingContext() {
 		return this.resolvingContext;
@@ -0,0 +1,258 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.event.Subscribe;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Define;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.*;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.annotation.Annotation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Read access to the per-type injection metadata index generated at compile time by the hura-processor.
+ * <p>
+ * For every type the processor has seen, a properties resource is written to {@link #RESOURCE_PREFIX} + the type's
+ * binary name, listing the type's injection relevant members:<br>
+ * - {@link #KEY_CONSTRUCTOR}: the parameter types of the constructor to use for injection<br>
+ * - {@link #KEY_RESOLVABLE_FIELDS}, {@link #KEY_INJECTABLE_FIELDS}, {@link #KEY_AGGREGATEABLE_FIELDS}: the names of
+ * the type's declared fields of the respective kind<br>
+ * - {@link #KEY_METHODS_PREFIX} + annotation binary name: the signatures of the type's declared methods annotated
+ * with the respective annotation
+ * <p>
+ * The processor also writes the {@link #RESOURCE_MARKER} resource, so class loaders without any index can be
+ * recognized once instead of being searched for an entry of every type.
+ * <p>
+ * If an {@link InjectionSnapshot} is loaded, its entries are used as well. Types without an index entry (or whose
+ * entry cannot be matched against the loaded class) are scanned reflectively as usual.
+ */
+final class InjectionIndex {
+
+	static final String RESOURCE_PREFIX = "META-INF/hura/index/";
+	static final String RESOURCE_MARKER = "META-INF/hura/indexed";
+
+	static final String KEY_CONSTRUCTOR = "constructor";
+	static final String KEY_RESOLVABLE_FIELDS = "fields.resolvable";
+	static final String KEY_INJECTABLE_FIELDS = "fields.injectable";
+	static final String KEY_AGGREGATEABLE_FIELDS = "fields.aggregateable";
+	static final String KEY_METHODS_PREFIX = "methods.";
+
+	private static final char SEPARATOR_ELEMENTS = ';';
+	private static final char SEPARATOR_PARAMETERS = ',';
+
+	private static final List<Class<? extends Annotation>> METHOD_ANNOTATIONS = Collections.unmodifiableList(
+			Arrays.asList(PreConstruct.class, PostInject.class, PostConstruct.class, PreDestroy.class,
+					PostDestroy.class, Subscribe.class, Define.class));
+
+	private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+	private static final Map<ClassLoader, Boolean> INDEXED_CLASS_LOADERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+	static {
+		for (Class<?> primitive : Arrays.asList(boolean.class, byte.class, char.class, short.class, int.class,
+				long.class, float.class, double.class)) {
+			PRIMITIVES.put(primitive.getName(), primitive);
+		}
+	}
+
+	static final class TypeIndex {
+
+		private final Class<?> type;
+		private final Properties properties;
+
+		private TypeIndex(Class<?> type, Properties properties) {
+			this.type = type;
+			this.properties = properties;
+		}
+
+		/**
+		 * @return True if there is an index entry for the type, false otherwise
+		 */
+		boolean isIndexed() {
+			return this.properties != null;
+		}
+
+		/**
+		 * @param <T> The indexed type
+		 * @return The indexed constructor, null if there is none indexed or the indexed one cannot be found
+		 */
+		@SuppressWarnings("unchecked")
+		<T> Constructor<T> getConstructor() {
+			String signature = isIndexed() ? this.properties.getProperty(KEY_CONSTRUCTOR) : null;
+			if (signature == null) {
+				return null;
+			}
+			try {
+				return (Constructor<T>) this.type.getDeclaredConstructor(toTypes(signature));
+			} catch (ClassNotFoundException | NoSuchMethodException | SecurityException e) {
+				return null;
+			}
+		}
+
+		List<Field> getResolvableFields() {
+			return getFields(KEY_RESOLVABLE_FIELDS);
+		}
+
+		List<Field> getInjectableFields() {
+			return getFields(KEY_INJECTABLE_FIELDS);
+		}
+
+		List<Field> getAggregateableFields() {
+			return getFields(KEY_AGGREGATEABLE_FIELDS);
+		}
+
+		private List<Field> getFields(String key) {
+			String names = isIndexed() ? this.properties.getProperty(key) : null;
+			if (names == null) {
+				return null;
+			}
+			List<Field> fields = new ArrayList<>();
+			try {
+				for (String name : StringUtils.split(names, SEPARATOR_ELEMENTS)) {
+					fields.add(this.type.getDeclaredField(name));
+				}
+			} catch (NoSuchFieldException | SecurityException e) {
+				return null;
+			}
+			return fields;
+		}
+
+		/**
+		 * @param annotationType The annotation type to return the indexed methods of; might <b>not</b> be null.
+		 * @return The type's declared methods annotated with the given annotation, null if the type is not indexed or
+		 * the methods cannot be found
+		 */
+		List<Method> getMethods(Class<?> annotationType) {
+			if (!isIndexed()) {
+				return null;
+			}
+			String signatures = this.properties.getProperty(KEY_METHODS_PREFIX + annotationType.getName(), StringUtils.EMPTY);
+			List<Method> methods = new ArrayList<>();
+			try {
+				for (String signature : StringUtils.split(signatures, SEPARATOR_ELEMENTS)) {
+					int paramsIdx = signature.indexOf('(');
+					methods.add(this.type.getDeclaredMethod(signature.substring(0, paramsIdx),
+							toTypes(signature.substring(paramsIdx + 1, signature.length() - 1))));
+				}
+			} catch (ClassNotFoundException | NoSuchMethodException | SecurityException | IndexOutOfBoundsException e) {
+				return null;
+			}
+			return methods;
+		}
+
+		private Class<?>[] toTypes(String signature) throws ClassNotFoundException {
+			String[] typeNames = StringUtils.split(signature, SEPARATOR_PARAMETERS);
+			Class<?>[] types = new Class<?>[typeNames.length];
+			for (int i = 0; i < typeNames.length; i++) {
+				types[i] = PRIMITIVES.containsKey(typeNames[i]) ? PRIMITIVES.get(typeNames[i])
+						: Class.forName(typeNames[i], false, this.type.getClassLoader());
+			}
+			return types;
+		}
+	}
+
+	private InjectionIndex() {
+	}
+
+	/**
+	 * Looks up the compile time index entry of the given type.
+	 *
+	 * @param type The type to look up; might <b>not</b> be null.
+	 * @return The type's {@link TypeIndex}, never null; not {@link TypeIndex#isIndexed()} if there is no entry
+	 */
+	static TypeIndex of(Class<?> type) {
+		ClassLoader classLoader = type.getClassLoader();
+		if (classLoader == null) {
+			return new TypeIndex(type, null);
+		}
+
+		// A VALID SNAPSHOT ENTRY DESCRIBES THE TYPE JUST AS THE COMPILE TIME ENTRY, BUT IS CHEAPER TO FIND
+		Properties snapshotted = InjectionSnapshot.lookup(type);
+		if (snapshotted != null) {
+			return new TypeIndex(type, snapshotted);
+		}
+
+		// WITHOUT ANY INDEX ON ITS CLASS PATH, A CLASS LOADER WOULD SEARCH ALL OF IT IN VAIN FOR EVERY SINGLE TYPE
+		if (!INDEXED_CLASS_LOADERS.computeIfAbsent(classLoader, loader -> loader.getResource(RESOURCE_MARKER) != null)) {
+			return new TypeIndex(type, null);
+		}
+
+		try (InputStream in = classLoader.getResourceAsStream(RESOURCE_PREFIX + type.getName())) {
+			if (in == null) {
+				return new TypeIndex(type, null);
+			}
+			Properties properties = new Properties();
+			properties.load(in);
+			return new TypeIndex(type, properties);
+		} catch (IOException e) {
+			return new TypeIndex(type, null);
+		}
+	}
+
+	/**
+	 * Describes the given type in the format of its index entry by inspecting it reflectively.
+	 *
+	 * @param type The type to describe; might <b>not</b> be null.
+	 * @return The type's index entry, null if the type cannot be described in the index format
+	 */
+	static Properties describe(Class<?> type) {
+		Properties properties = new Properties();
+
+		// TYPES WITHOUT A VALID CONSTRUCTOR ARE NOT INDEXED WITH ONE, SO THE FAILURE IS REPORTED BY THE RUNTIME SCAN
+		try {
+			properties.setProperty(KEY_CONSTRUCTOR,
+					joinTypes(ReflectionCache.getInjectableConstructor(type).getConstructor().getParameterTypes()));
+		} catch (RuntimeException e) {
+			// Do nothing; there is no constructor to index.
+		}
+
+		StringJoiner resolvableFields = new StringJoiner(String.valueOf(SEPARATOR_ELEMENTS));
+		StringJoiner injectableFields = new StringJoiner(String.valueOf(SEPARATOR_ELEMENTS));
+		StringJoiner aggregateableFields = new StringJoiner(String.valueOf(SEPARATOR_ELEMENTS));
+		for (Field field : type.getDeclaredFields()) {
+			if (InjectionUtils.isResolvable(field)) {
+				resolvableFields.add(field.getName());
+			}
+			if (InjectionUtils.isInjectable(field)) {
+				injectableFields.add(field.getName());
+			}
+			if (InjectionUtils.isAggregateable(field)) {
+				aggregateableFields.add(field.getName());
+			}
+		}
+		properties.setProperty(KEY_RESOLVABLE_FIELDS, resolvableFields.toString());
+		properties.setProperty(KEY_INJECTABLE_FIELDS, injectableFields.toString());
+		properties.setProperty(KEY_AGGREGATEABLE_FIELDS, aggregateableFields.toString());
+
+		for (Class<? extends Annotation> annotationType : METHOD_ANNOTATIONS) {
+			StringJoiner methods = new StringJoiner(String.valueOf(SEPARATOR_ELEMENTS));
+			for (Method method : type.getDeclaredMethods()) {
+				if (method.isAnnotationPresent(annotationType)) {
+					String signature = method.getName() + '(' + joinTypes(method.getParameterTypes()) + ')';
+					// THE NAMES OF OBJECT ARRAY TYPES CONTAIN THE ELEMENT SEPARATOR
+					if (signature.indexOf(SEPARATOR_ELEMENTS) >= 0) {
+						return null;
+					}
+					methods.add(signature);
+				}
+			}
+			if (methods.length() > 0) {
+				properties.setProperty(KEY_METHODS_PREFIX + annotationType.getName(), methods.toString());
+			}
+		}
+
+		return properties;
+	}
+
+	private static String joinTypes(Class<?>[] types) {
+		StringJoiner joiner = new StringJoiner(String.valueOf(SEPARATOR_PARAMETERS));
+		for (Class<?> type : types) {
+			joiner.add(type.getName());
+		}
+		return joiner.toString();
+	}
+}
@@ -7,8 +7,10 @@ import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
 import com.mantledillusion.injection.hura.core.annotation.injection.Plugin;
 import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Adjust;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Optional;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.AnnotationProcessor;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.*;
 import com.mantledillusion.injection.hura.core.annotation.property.Matches;
@@ -19,26 +21,44 @@ import com.mantledillusion.injection.hura.core.service.ResolvingProvider;
 import com.mantledillusion.injection.hura.core.service.StatefulService;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 final class InjectionProcessors<T> {
 
 	interface LifecycleAnnotationProcessor<T> {
 
 		void process(T bean, TemporalInjectorCallback callback) throws Exception;
+
+		/**
+		 * @return True if the processor may be executed asynchronously to other processors of its phase, false otherwise
+		 */
+		default boolean isAsync() {
+			return false;
+		}
 	}
 
+	private final BeanDescriptor<T> descriptor;
 	private final Map<Phase, List<LifecycleAnnotationProcessor<? super T>>> processors;
 
-	private InjectionProcessors(Map<Phase, List<LifecycleAnnotationProcessor<? super T>>> processors) {
+	private InjectionProcessors(BeanDescriptor<T> descriptor, Map<Phase, List<LifecycleAnnotationProcessor<? super T>>> processors) {
+		this.descriptor = descriptor;
 		this.processors = processors;
 	}
 
+	BeanDescriptor<T> getDescriptor() {
+		return this.descriptor;
+	}
+
 	List<LifecycleAnnotationProcessor<? super T>> getProcessorsOfPhase(Phase phase) {
 		return this.processors.get(phase);
 	}
@@ -66,7 +86,7 @@ final class InjectionProcessors<T> {
 		processors.put(Phase.PRE_DESTROY, Collections.unmodifiableList(preDestroyProcessors));
 		processors.put(Phase.POST_DESTROY, Collections.unmodifiableList(postDestroyProcessors));
 
-		return new InjectionProcessors<>(processors);
+		return new InjectionProcessors<>(other.descriptor != null ? other.descriptor : this.descriptor, processors);
 	}
 
 	@SafeVarargs
@@ -111,136 +131,318 @@ final class InjectionProcessors<T> {
 		processors.put(Phase.PRE_DESTROY, Collections.unmodifiableList(preDestroyProcessors));
 		processors.put(Phase.POST_DESTROY, Collections.unmodifiableList(postDestroyProcessors));
 
-		return new InjectionProcessors<>(processors);
+		return new InjectionProcessors<>(null, processors);
 	}
 
-	static <T> InjectionProcessors<T> of(Class<T> clazz, TemporalInjectorCallback callback) {
-		Map<Phase, List<LifecycleAnnotationProcessor<? super T>>> processors = new HashMap<>();
+	static <T> InjectionProcessors<T> of(BeanDescriptor<T> descriptor, TemporalInjectorCallback callback) {
+		return descriptor.getProcessorTemplate().apply(callback);
+	}
 
-		List<LifecycleAnnotationProcessor<? super T>> preConstructProcessors = new ArrayList<>();
-		List<LifecycleAnnotationProcessor<? super T>> postInjectProcessors = new ArrayList<>();
-		List<LifecycleAnnotationProcessor<? super T>> postConstructProcessors = new ArrayList<>();
-		List<LifecycleAnnotationProcessor<? super T>> preDestroyProcessors = new ArrayList<>();
-		List<LifecycleAnnotationProcessor<? super T>> postDestroyProcessors = new ArrayList<>();
+	private interface ProcessorFactory<T> {
 
-		addBeanProcessorsFromAnnotation(Phase.PRE_CONSTRUCT, clazz, callback,
-				PreConstruct.class, a -> a.value(), preConstructProcessors);
-		addAnnotationProcessorsFromAnnotation(Phase.PRE_CONSTRUCT, clazz, callback,
-				com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreConstruct.class, a -> a.value(), preConstructProcessors);
+		LifecycleAnnotationProcessor<? super T> create(TemporalInjectorCallback callback);
+	}
 
-		addBeanProcessorsFromAnnotation(Phase.POST_INJECT, clazz, callback,
-				PostInject.class, a -> a.value(), postInjectProcessors);
-		addAnnotationProcessorsFromAnnotation(Phase.POST_INJECT, clazz, callback,
-				com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostInject.class, a -> a.value(), postInjectProcessors);
+	/**
+	 * The processors of a bean type, composed once per type.
+	 * <p>
+	 * Lifecycle methods and processors annotated with @{@link Stateless} are shared by all beans of the type; only
+	 * processors that have to be injected are instantiated per injection sequence when the template is applied. If
+	 * there are none of them, all beans of the type share the same {@link InjectionProcessors}.
+	 */
+	static final class Template<T> {
+
+		private final BeanDescriptor<T> descriptor;
+		private final Map<Phase, List<ProcessorFactory<T>>> factories;
+		private final InjectionProcessors<T> shared;
+
+		private Template(BeanDescriptor<T> descriptor, Map<Phase, List<ProcessorFactory<T>>> factories,
+						 boolean isSequenceSpecific) {
+			this.descriptor = descriptor;
+			this.factories = factories;
+			this.shared = isSequenceSpecific ? null : create(null);
+		}
 
-		addBeanProcessorsFromAnnotation(Phase.POST_CONSTRUCT, clazz, callback,
-				PostConstruct.class, a -> a.value(), postConstructProcessors);
-		addAnnotationProcessorsFromAnnotation(Phase.POST_CONSTRUCT, clazz, callback,
-				com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostConstruct.class, a -> a.value(), postConstructProcessors);
+		/**
+		 * @return True if applying the template requires a callback to instantiate processors, false otherwise
+		 */
+		boolean isSequenceSpecific() {
+			return this.shared == null;
+		}
 
-		addBeanProcessorsFromAnnotation(Phase.PRE_DESTROY, clazz, callback,
-				PreDestroy.class, a -> a.value(), preDestroyProcessors);
-		addAnnotationProcessorsFromAnnotation(Phase.PRE_DESTROY, clazz, callback,
-				com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreDestroy.class, a -> a.value(), preDestroyProcessors);
+		InjectionProcessors<T> apply(TemporalInjectorCallback callback) {
+			return this.shared != null ? this.shared : create(callback);
+		}
 
-		addBeanProcessorsFromAnnotation(Phase.POST_DESTROY, clazz, callback,
-				PostDestroy.class, a -> a.value(), postDestroyProcessors);
-		addAnnotationProcessorsFromAnnotation(Phase.POST_DESTROY, clazz, callback,
-				com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostDestroy.class, a -> a.value(), postDestroyProcessors);
+		private InjectionProcessors<T> create(TemporalInjectorCallback callback) {
+			Map<Phase, List<LifecycleAnnotationProcessor<? super T>>> processors = new EnumMap<>(Phase.class);
+			for (Map.Entry<Phase, List<ProcessorFactory<T>>> entry : this.factories.entrySet()) {
+				List<LifecycleAnnotationProcessor<? super T>> phaseProcessors = new ArrayList<>(entry.getValue().size());
+				for (ProcessorFactory<T> factory : entry.getValue()) {
+					phaseProcessors.add(factory.create(callback));
+				}
+				processors.put(entry.getKey(), Collections.unmodifiableList(phaseProcessors));
+			}
+			return new InjectionProcessors<>(this.descriptor, processors);
+		}
 
-		processors.put(Phase.PRE_CONSTRUCT, Collections.unmodifiableList(preConstructProcessors));
-		processors.put(Phase.POST_INJECT, Collections.unmodifiableList(postInjectProcessors));
-		processors.put(Phase.POST_CONSTRUCT, Collections.unmodifiableList(postConstructProcessors));
-		processors.put(Phase.PRE_DESTROY, Collections.unmodifiableList(preDestroyProcessors));
-		processors.put(Phase.POST_DESTROY, Collections.unmodifiableList(postDestroyProcessors));
+		static <T> Template<T> of(BeanDescriptor<T> descriptor) {
+			Map<Phase, List<ProcessorFactory<T>>> factories = new EnumMap<>(Phase.class);
+			boolean isSequenceSpecific = false;
+
+			isSequenceSpecific |= addBeanProcessorsFromAnnotation(Phase.PRE_CONSTRUCT, descriptor,
+					PreConstruct.class, a -> a.value(), a -> false, factories);
+			isSequenceSpecific |= addAnnotationProcessorsFromAnnotation(Phase.PRE_CONSTRUCT, descriptor,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreConstruct.class, a -> a.value(), factories);
+
+			isSequenceSpecific |= addBeanProcessorsFromAnnotation(Phase.POST_INJECT, descriptor,
+					PostInject.class, a -> a.value(), a -> false, factories);
+			isSequenceSpecific |= addAnnotationProcessorsFromAnnotation(Phase.POST_INJECT, descriptor,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostInject.class, a -> a.value(), factories);
+
+			isSequenceSpecific |= addBeanProcessorsFromAnnotation(Phase.POST_CONSTRUCT, descriptor,
+					PostConstruct.class, a -> a.value(), a -> a.async(), factories);
+			isSequenceSpecific |= addAnnotationProcessorsFromAnnotation(Phase.POST_CONSTRUCT, descriptor,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostConstruct.class, a -> a.value(), factories);
+
+			isSequenceSpecific |= addBeanProcessorsFromAnnotation(Phase.PRE_DESTROY, descriptor,
+					PreDestroy.class, a -> a.value(), a -> false, factories);
+			isSequenceSpecific |= addAnnotationProcessorsFromAnnotation(Phase.PRE_DESTROY, descriptor,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreDestroy.class, a -> a.value(), factories);
 
-		return new InjectionProcessors<>(processors);
+			isSequenceSpecific |= addBeanProcessorsFromAnnotation(Phase.POST_DESTROY, descriptor,
+					PostDestroy.class, a -> a.value(), a -> false, factories);
+			isSequenceSpecific |= addAnnotationProcessorsFromAnnotation(Phase.POST_DESTROY, descriptor,
+					com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PostDestroy.class, a -> a.value(), factories);
+
+			return new Template<>(descriptor, factories, isSequenceSpecific);
+		}
 	}
 
-	private static <T, A extends Annotation> void addBeanProcessorsFromAnnotation(Phase phase, Class<T> clazz, TemporalInjectorCallback callback, Class<A> annotationType,
-																				  Function<A, Class<? extends BeanProcessor>[]> processorTypeRetriever,
-																				  List<LifecycleAnnotationProcessor<? super T>> processorList) {
+	private static final ClassValue<Object> STATELESS_PROCESSORS = new ClassValue<Object>() {
+
+		@Override
+		protected Object computeValue(Class<?> type) {
+			ReflectionCache.InjectableConstructor<?> constructor = ReflectionCache.getInjectableConstructor(type);
+			if (constructor.getConstructor().getParameterCount() > 0
+					|| !ReflectionCache.getResolvableFields(type).isEmpty()
+					|| !ReflectionCache.getInjectableFields(type).isEmpty()
+					|| !ReflectionCache.getAggregateableFields(type).isEmpty()) {
+				throw new ProcessorException("The processor type " + type.getSimpleName() + " is annotated with @"
+						+ Stateless.class.getSimpleName() + ", but requires injection, which a stateless processor "
+						+ "cannot receive");
+			}
 
-		// PROCESSOR ANNOTATIONS ON SUPER CLASSES
-		for (Class<?> type : ReflectionCache.getSuperTypesAnnotatedWith(clazz, annotationType)) {
-			A a = type.getAnnotation(annotationType);
-			for (Class<? extends BeanProcessor> processorType: processorTypeRetriever.apply(a)) {
-				BeanProcessor<T> postProcessor = (BeanProcessor<T>) callback.instantiate(processorType);
-				processorList.add((bean, tCallback) -> postProcessor.process(phase, bean, tCallback));
+			try {
+				return constructor.instantiate(new Object[0]);
+			} catch (InstantiationException | IllegalAccessException | IllegalArgumentException e) {
+				throw new ProcessorException("Unable to instantiate the stateless processor type "
+						+ type.getSimpleName(), e);
+			} catch (InvocationTargetException e) {
+				throw new ProcessorException("Unable to instantiate the stateless processor type "
+						+ type.getSimpleName(), e.getTargetException());
 			}
 		}
+	};
+
+	/*
+	 * Adds a factory for a processor of the given type; returns true if the processor has to be instantiated per
+	 * injection sequence.
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T, P> boolean addProcessor(Phase phase, Class<?> processorType,
+											   Function<P, LifecycleAnnotationProcessor<T>> adapter,
+											   Map<Phase, List<ProcessorFactory<T>>> factories) {
+		List<ProcessorFactory<T>> phaseFactories = factories.computeIfAbsent(phase, p -> new ArrayList<>());
+		if (processorType.isAnnotationPresent(Stateless.class)) {
+			LifecycleAnnotationProcessor<T> processor = adapter.apply((P) STATELESS_PROCESSORS.get(processorType));
+			phaseFactories.add(callback -> processor);
+			return false;
+		} else {
+			phaseFactories.add(callback -> adapter.apply((P) callback.instantiate(processorType)));
+			return true;
+		}
+	}
 
-		// PROCESSOR ANNOTATIONS ON METHODS
-		for (Method m : ReflectionCache.getMethodsAnnotatedWith(clazz, annotationType)) {
-			A a = m.getAnnotation(annotationType);
-			for (Class<? extends BeanProcessor> processorType: processorTypeRetriever.apply(a)) {
-				BeanProcessor<T> postProcessor = (BeanProcessor<T>) callback.instantiate(processorType);
-				processorList.add((bean, tCallback) -> postProcessor.process(phase, bean, tCallback));
+	private static <T> LifecycleAnnotationProcessor<T> async(LifecycleAnnotationProcessor<T> processor, boolean isAsync) {
+		if (!isAsync) {
+			return processor;
+		}
+		return new LifecycleAnnotationProcessor<T>() {
+
+			@Override
+			public void process(T bean, TemporalInjectorCallback callback) throws Exception {
+				processor.process(bean, callback);
 			}
 
-			LifecycleAnnotationProcessor<T> processor = (bean, tCallback) -> {
-				Object[] parameters = new Object[m.getParameterCount()];
-
-				int parameterIndex=0;
-				for (Parameter parameter: m.getParameters()) {
-					Object instance = null;
-					if (parameter.getType().isAssignableFrom(Phase.class)) {
-						instance = phase;
-					} else if (parameter.getType().isAssignableFrom(InjectionProvider.class) ||
-							parameter.getType().isAssignableFrom(ResolvingProvider.class)) {
-						instance = tCallback;
-					} else if (parameter.isAnnotationPresent(Inject.class)) {
-						InjectionSettings<?> injectionSettings = InjectionSettings.of(parameter.getType(),
-								parameter.getAnnotation(Inject.class), parameter.getAnnotation(Qualifier.class),
-								parameter.getAnnotation(Optional.class), parameter.getAnnotation(Adjust.class));
-						instance = tCallback.instantiate(m, injectionSettings);
-					} else if (parameter.isAnnotationPresent(Plugin.class)) {
-						InjectionSettings<?> injectionSettings = InjectionSettings.of(parameter.getType(),
-								parameter.getAnnotation(Plugin.class),
-								parameter.getAnnotation(Optional.class), parameter.getAnnotation(Adjust.class));
-						instance = tCallback.instantiate(m, injectionSettings);
-					} else if (parameter.isAnnotationPresent(Resolve.class)) {
-						ResolvingSettings<?> resolvingSettings = ResolvingSettings.of(parameter.getType(),
-								parameter.getAnnotation(Resolve.class), parameter.getAnnotation(Matches.class),
-								parameter.getAnnotation(Optional.class));
-						instance = tCallback.resolve(resolvingSettings);
-					} else if (parameter.isAnnotationPresent(Aggregate.class)) {
-						AggregationSettings<?> aggregationSettings = AggregationSettings.of(parameter.getType(),
-								parameter.getParameterizedType(), parameter.getAnnotation(Aggregate.class),
-								parameter.getAnnotation(Optional.class));
-						instance = tCallback.aggregate(parameter, aggregationSettings);
-					}
-					parameters[parameterIndex] = instance;
-					parameterIndex++;
-				}
+			@Override
+			public boolean isAsync() {
+				return true;
+			}
+		};
+	}
+
+	private interface ParameterBinder {
+
+		Object bind(TemporalInjectorCallback callback) throws Exception;
+	}
+
+	/*
+	 * Invokes a lifecycle method using binders for its parameters and a handle bound to the method, which are both
+	 * determined on the first invocation; by then the method has been validated.
+	 */
+	private static final class LifecycleMethodInvoker<T> implements LifecycleAnnotationProcessor<T> {
+
+		private final Phase phase;
+		private final Method method;
+		private volatile MethodHandle handle;
+		private volatile ParameterBinder[] binders;
+
+		private LifecycleMethodInvoker(Phase phase, Method method) {
+			this.phase = phase;
+			this.method = method;
+		}
+
+		@Override
+		public void process(T bean, TemporalInjectorCallback callback) throws Exception {
+			ParameterBinder[] binders = this.binders;
+			if (binders == null) {
+				this.handle = bind(this.method);
+				this.binders = binders = bindParameters(this.phase, this.method);
+			}
 
+			Object[] parameters = new Object[binders.length];
+			for (int parameterIndex = 0; parameterIndex < binders.length; parameterIndex++) {
+				parameters[parameterIndex] = binders[parameterIndex].bind(callback);
+			}
+
+			MethodHandle handle = this.handle;
+			if (handle == null) {
 				try {
-					m.invoke(bean, parameters);
+					this.method.invoke(bean, parameters);
 				} catch (InvocationTargetException e) {
-					throw new ProcessorException("Unable to invoke method '" + m.getName() + "' for processing",
+					throw new ProcessorException("Unable to invoke method '" + this.method.getName() + "' for processing",
 							e.getTargetException());
 				}
-			};
+			} else {
+				try {
+					handle.invokeExact((Object) bean, parameters);
+				} catch (Throwable t) {
+					throw new ProcessorException("Unable to invoke method '" + this.method.getName() + "' for processing", t);
+				}
+			}
+		}
 
-			processorList.add(processor);
+		/*
+		 * Binds a (Object,Object[])void handle to the method; if the method cannot be bound, null is returned and the
+		 * method is invoked using reflection.
+		 */
+		private static MethodHandle bind(Method m) {
+			if (Modifier.isStatic(m.getModifiers())) {
+				return null;
+			}
+			try {
+				return MethodHandles.lookup().unreflect(m)
+						.asSpreader(Object[].class, m.getParameterCount())
+						.asType(MethodType.methodType(void.class, Object.class, Object[].class));
+			} catch (IllegalAccessException | SecurityException | IllegalArgumentException e) {
+				return null;
+			}
 		}
+
+		private static ParameterBinder[] bindParameters(Phase phase, Method m) {
+			Parameter[] parameters = m.getParameters();
+			ParameterBinder[] binders = new ParameterBinder[parameters.length];
+			for (int parameterIndex = 0; parameterIndex < parameters.length; parameterIndex++) {
+				Parameter parameter = parameters[parameterIndex];
+				if (parameter.getType().isAssignableFrom(Phase.class)) {
+					binders[parameterIndex] = tCallback -> phase;
+				} else if (parameter.getType().isAssignableFrom(InjectionProvider.class) ||
+						parameter.getType().isAssignableFrom(ResolvingProvider.class)) {
+					binders[parameterIndex] = tCallback -> tCallback;
+				} else if (parameter.isAnnotationPresent(Inject.class)) {
+					InjectionSettings<?> injectionSettings = InjectionSettings.of(parameter.getType(),
+							parameter.getAnnotation(Inject.class), parameter.getAnnotation(Qualifier.class),
+							parameter.getAnnotation(Optional.class), parameter.getAnnotation(Lazy.class),
+							parameter.getAnnotation(Adjust.class));
+					binders[parameterIndex] = tCallback -> tCallback.instantiate(m, injectionSettings);
+				} else if (parameter.isAnnotationPresent(Plugin.class)) {
+					InjectionSettings<?> injectionSettings = InjectionSettings.of(parameter.getType(),
+							parameter.getAnnotation(Plugin.class),
+							parameter.getAnnotation(Optional.class), parameter.getAnnotation(Adjust.class));
+					binders[parameterIndex] = tCallback -> tCallback.instantiate(m, injectionSettings);
+				} else if (parameter.isAnnotationPresent(Resolve.class)) {
+					ResolvingSettings<?> resolvingSettings = ResolvingSettings.of(parameter.getType(),
+							parameter.getAnnotation(Resolve.class), parameter.getAnnotation(Matches.class),
+							parameter.getAnnotation(Optional.class));
+					binders[parameterIndex] = tCallback -> tCallback.resolve(resolvingSettings);
+				} else if (parameter.isAnnotationPresent(Aggregate.class)) {
+					AggregationSettings<?> aggregationSettings = AggregationSettings.of(parameter.getType(),
+							parameter.getParameterizedType(), parameter.getAnnotation(Aggregate.class),
+							parameter.getAnnotation(Optional.class));
+					binders[parameterIndex] = tCallback -> tCallback.aggregate(parameter, aggregationSettings);
+				} else {
+					binders[parameterIndex] = tCallback -> null;
+				}
+			}
+			return binders;
+		}
+	}
+
+	private static <T, A extends Annotation> boolean addBeanProcessorsFromAnnotation(Phase phase, BeanDescriptor<T> descriptor, Class<A> annotationType,
+																					 Function<A, Class<? extends BeanProcessor>[]> processorTypeRetriever,
+																					 Predicate<A> asyncRetriever,
+																					 Map<Phase, List<ProcessorFactory<T>>> factories) {
+		List<ProcessorFactory<T>> phaseFactories = factories.computeIfAbsent(phase, p -> new ArrayList<>());
+		boolean isSequenceSpecific = false;
+
+		// PROCESSOR ANNOTATIONS ON SUPER CLASSES
+		for (Class<?> type : descriptor.getSuperTypesAnnotatedWith(annotationType)) {
+			A a = type.getAnnotation(annotationType);
+			boolean isAsync = asyncRetriever.test(a);
+			for (Class<? extends BeanProcessor> processorType: processorTypeRetriever.apply(a)) {
+				isSequenceSpecific |= InjectionProcessors.<T, BeanProcessor<T>>addProcessor(phase, processorType,
+						postProcessor -> async((bean, tCallback) -> postProcessor.process(phase, bean, tCallback), isAsync),
+						factories);
+			}
+		}
+
+		// PROCESSOR ANNOTATIONS ON METHODS
+		for (Method m : descriptor.getMethodsAnnotatedWith(annotationType)) {
+			A a = m.getAnnotation(annotationType);
+			boolean isAsync = asyncRetriever.test(a);
+			for (Class<? extends BeanProcessor> processorType: processorTypeRetriever.apply(a)) {
+				isSequenceSpecific |= InjectionProcessors.<T, BeanProcessor<T>>addProcessor(phase, processorType,
+						postProcessor -> async((bean, tCallback) -> postProcessor.process(phase, bean, tCallback), isAsync),
+						factories);
+			}
+
+			LifecycleAnnotationProcessor<T> processor = async(new LifecycleMethodInvoker<>(phase, m), isAsync);
+			phaseFactories.add(callback -> processor);
+		}
+
+		return isSequenceSpecific;
 	}
 
-	private static <T, LifecycleAnnotationType extends Annotation, AnnotatedAnnotationType extends Annotation, AnnotatedElementType extends AnnotatedElement> void
-	addAnnotationProcessorsFromAnnotation(Phase phase, Class<T> clazz, TemporalInjectorCallback callback, Class<LifecycleAnnotationType> annotationType,
+	private static <T, LifecycleAnnotationType extends Annotation, AnnotatedAnnotationType extends Annotation, AnnotatedElementType extends AnnotatedElement> boolean
+	addAnnotationProcessorsFromAnnotation(Phase phase, BeanDescriptor<T> descriptor, Class<LifecycleAnnotationType> annotationType,
 										  Function<LifecycleAnnotationType, Class<? extends AnnotationProcessor>[]> processorTypeRetriever,
-										  List<LifecycleAnnotationProcessor<? super T>> processorList) {
+										  Map<Phase, List<ProcessorFactory<T>>> factories) {
+		boolean isSequenceSpecific = false;
+
 		// PROCESSOR ANNOTATIONS ON ANNOTATIONS
-		for (AnnotationOccurrence occurrence : ReflectionCache.getAnnotationsAnnotatedWith(clazz, annotationType)) {
+		for (AnnotationOccurrence occurrence : descriptor.getAnnotationsAnnotatedWith(annotationType)) {
 			LifecycleAnnotationType a = occurrence.getAnnotation().annotationType().getAnnotation(annotationType);
 			for (Class<? extends AnnotationProcessor> processorType: processorTypeRetriever.apply(a)) {
-				AnnotationProcessor<AnnotatedAnnotationType, AnnotatedElementType> processor =
-						(AnnotationProcessor<AnnotatedAnnotationType, AnnotatedElementType>) callback.instantiate(processorType);
-				processorList.add((bean, tCallback) -> processor.process(phase, bean,
-						(AnnotatedAnnotationType) occurrence.getAnnotation(),
-						(AnnotatedElementType) occurrence.getAnnotatedElement(), tCallback));
+				isSequenceSpecific |= InjectionProcessors.<T, AnnotationProcessor<AnnotatedAnnotationType, AnnotatedElementType>>addProcessor(phase, processorType,
+						processor -> (bean, tCallback) -> processor.process(phase, bean,
+								(AnnotatedAnnotationType) occurrence.getAnnotation(),
+								(AnnotatedElementType) occurrence.getAnnotatedElement(), tCallback), factories);
 			}
 		}
+
+		factories.computeIfAbsent(phase, p -> new ArrayList<>());
+		return isSequenceSpecific;
 	}
 
 	private static <S extends StatefulService> S filterService(Phase phase, Class<S> serviceType, S service) {
@@ -5,6 +5,7 @@ import com.mantledillusion.injection.hura.core.annotation.injection.Plugin;
 import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Adjust;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Context;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Optional;
 import org.apache.commons.lang3.StringUtils;
 
@@ -47,6 +48,11 @@ final class InjectionSettings<T> {
 				this.injectionMode, this.overwriteWithNull, this.allocations, this.extensions);
 	}
 
+	InjectionSettings<T> refine(Optional.InjectionMode injectionMode) {
+		return new InjectionSettings<>(this.type, this.isIndependent, this.qualifier, this.isContext,
+				injectionMode, this.overwriteWithNull, this.allocations, this.extensions);
+	}
+
 	static <T> InjectionSettings<T> of(Class<T> type) {
 		if (type == null) {
 			throw new IllegalArgumentException("Unable to inject using a null root type.");
@@ -57,12 +63,12 @@ final class InjectionSettings<T> {
 	}
 
 	static <T> InjectionSettings<T> of(Class<T> type, Inject inject, Qualifier qualifier, Optional optional,
-									   Adjust adjust) {
-		return of(type, qualifier, optional, adjust, inject.overwriteWithNull());
+									   Lazy lazy, Adjust adjust) {
+		return of(type, qualifier, optional, lazy, adjust, inject.overwriteWithNull());
 	}
 
 	static <T> InjectionSettings<T> of(Class<T> type, Plugin plugin, Optional optional, Adjust adjust) {
-		InjectionSettings<T> set = of(type, null, optional, adjust, false);
+		InjectionSettings<T> set = of(type, null, optional, null, adjust, false);
 
 		set.allocations.add(Blueprint.TypeAllocation.allocateToPlugin(type, plugin.directory(),
 				plugin.pluginId(), plugin.versionFrom(), plugin.versionUntil()));
@@ -70,8 +76,8 @@ final class InjectionSettings<T> {
 		return set;
 	}
 
-	private static <T> InjectionSettings<T> of(Class<T> type, Qualifier qualifier, Optional optional, Adjust adjust,
-											   boolean overwriteWithNull) {
+	private static <T> InjectionSettings<T> of(Class<T> type, Qualifier qualifier, Optional optional, Lazy lazy,
+											   Adjust adjust, boolean overwriteWithNull) {
 		List<Blueprint.Allocation> allocations = new ArrayList<>();
 		String singletonQualifier = StringUtils.EMPTY;
 		if (qualifier != null) {
@@ -80,6 +86,8 @@ final class InjectionSettings<T> {
 		Optional.InjectionMode injectionMode = Optional.InjectionMode.EAGER;
 		if (optional != null) {
 			injectionMode = Optional.InjectionMode.EXPLICIT;
+		} else if (lazy != null) {
+			injectionMode = Optional.InjectionMode.LAZY;
 		}
 		List<Class<? extends Blueprint>> extensions = Collections.emptyList();
 		if (adjust != null) {
@@ -0,0 +1,315 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.exception.InjectionException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.net.URISyntaxException;
+import java.nio.file.*;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent snapshot of the meta data index of all types whose meta data has been retrieved, so restarts of an
+ * unchanged application do not have to scan the same types reflectively again.
+ * <p>
+ * A snapshot file consists of a header line, followed by an entry for every type; each entry is a line of
+ * {@link #PREFIX_ENTRY} + the type's binary name + {@link #SEPARATOR_CHECKSUM} + the checksum of the type's class
+ * file, followed by the type's {@link InjectionIndex} entry.
+ * <p>
+ * Loaded snapshot files are memory mapped; an entry is only parsed when its type is looked up, and only used if the
+ * checksum still matches the class file the type has been loaded from. Otherwise the entry is stale and the type is
+ * scanned reflectively as usual.
+ */
+final class InjectionSnapshot {
+
+	private static final String HEADER = "hura-snapshot-1";
+	private static final char PREFIX_ENTRY = '@';
+	private static final char SEPARATOR_CHECKSUM = ' ';
+	private static final char SEPARATOR_LINE = '\n';
+
+	private static final class Entry {
+
+		private final long checksum;
+		private final int offset;
+		private final int length;
+
+		private Entry(long checksum, int offset, int length) {
+			this.checksum = checksum;
+			this.offset = offset;
+			this.length = length;
+		}
+	}
+
+	private static final Map<Path, Long> JAR_CHECKSUMS = new ConcurrentHashMap<>();
+	private static final ClassValue<Optional<Long>> TYPE_CHECKSUMS = new ClassValue<Optional<Long>>() {
+
+		@Override
+		protected Optional<Long> computeValue(Class<?> type) {
+			return Optional.ofNullable(checksumOrNull(type));
+		}
+	};
+
+	private static volatile InjectionSnapshot current;
+
+	private final ByteBuffer buffer;
+	private final Map<String, Entry> entries;
+
+	private InjectionSnapshot(ByteBuffer buffer, Map<String, Entry> entries) {
+		this.buffer = buffer;
+		this.entries = entries;
+	}
+
+	private Properties parse(Entry entry) throws IOException {
+		byte[] bytes = new byte[entry.length];
+		ByteBuffer entryBuffer = this.buffer.duplicate();
+		entryBuffer.position(entry.offset);
+		entryBuffer.get(bytes);
+
+		Properties properties = new Properties();
+		properties.load(new ByteArrayInputStream(bytes));
+		return properties;
+	}
+
+	/**
+	 * Looks up the given type's index entry in the currently loaded snapshot.
+	 *
+	 * @param type The type to look up; might <b>not</b> be null.
+	 * @return The type's index entry, null if there is no snapshot loaded, the snapshot has no entry for the type or
+	 * the entry is stale
+	 */
+	static Properties lookup(Class<?> type) {
+		InjectionSnapshot snapshot = current;
+		Entry entry = snapshot == null ? null : snapshot.entries.get(type.getName());
+		if (entry == null) {
+			return null;
+		}
+
+		try {
+			Long checksum = TYPE_CHECKSUMS.get(type).orElse(null);
+			return checksum != null && checksum == entry.checksum ? snapshot.parse(entry) : null;
+		} catch (IOException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Loads the given snapshot file, so it is used for all types whose meta data has not been retrieved yet.
+	 * <p>
+	 * A missing or invalid file is ignored.
+	 *
+	 * @param file The snapshot file to load; might <b>not</b> be null.
+	 * @return The count of entries in the loaded snapshot, 0 if there was none that could be loaded
+	 */
+	static int load(File file) {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException | UnsupportedOperationException e) {
+			return 0;
+		}
+
+		Map<String, Entry> entries = new HashMap<>();
+		int lineStart = readLine(buffer, 0, HEADER);
+		if (lineStart < 0) {
+			return 0;
+		}
+		try {
+			while (lineStart < buffer.limit()) {
+				int lineEnd = indexOf(buffer, SEPARATOR_LINE, lineStart);
+				int checksumIdx = indexOf(buffer, SEPARATOR_CHECKSUM, lineStart);
+				if (buffer.get(lineStart) != PREFIX_ENTRY || checksumIdx > lineEnd) {
+					return 0;
+				}
+				String typeName = toString(buffer, lineStart + 1, checksumIdx);
+				long checksum = Long.parseLong(toString(buffer, checksumIdx + 1, lineEnd), 16);
+
+				int entryStart = lineEnd + 1;
+				int entryEnd = entryStart;
+				while (entryEnd < buffer.limit() && buffer.get(entryEnd) != PREFIX_ENTRY) {
+					entryEnd = indexOf(buffer, SEPARATOR_LINE, entryEnd) + 1;
+				}
+				entries.put(typeName, new Entry(checksum, entryStart, entryEnd - entryStart));
+				lineStart = entryEnd;
+			}
+		} catch (NumberFormatException | IndexOutOfBoundsException e) {
+			return 0;
+		}
+
+		current = new InjectionSnapshot(buffer, entries);
+		return entries.size();
+	}
+
+	/**
+	 * Unloads the currently loaded snapshot, if there is one.
+	 */
+	static void reset() {
+		current = null;
+	}
+
+	private static int readLine(ByteBuffer buffer, int offset, String expected) {
+		int lineEnd = indexOf(buffer, SEPARATOR_LINE, offset);
+		return lineEnd < buffer.limit() && toString(buffer, offset, lineEnd).equals(expected) ? lineEnd + 1 : -1;
+	}
+
+	private static int indexOf(ByteBuffer buffer, char c, int offset) {
+		int idx = offset;
+		while (idx < buffer.limit() && buffer.get(idx) != c) {
+			idx++;
+		}
+		return idx;
+	}
+
+	private static String toString(ByteBuffer buffer, int from, int until) {
+		byte[] bytes = new byte[until - from];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = buffer.get(from + i);
+		}
+		return new String(bytes, StandardCharsets.ISO_8859_1);
+	}
+
+	/*
+	 * Escapes the given key or value the way Properties.store() does, so Properties.load() reads it back unchanged;
+	 * keys are additionally kept from starting with the entry prefix, which would be mistaken for the next entry.
+	 */
+	private static String escape(String s, boolean isKey) {
+		StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+				case '\\':
+				case '=':
+				case ':':
+				case '#':
+				case '!':
+					sb.append('\\').append(c);
+					break;
+				case ' ':
+					sb.append(i == 0 || isKey ? "\\ " : " ");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\f':
+					sb.append("\\f");
+					break;
+				default:
+					if (c < 0x20 || c > 0x7e) {
+						sb.append(String.format("\\u%04X", (int) c));
+					} else if (c == PREFIX_ENTRY && i == 0 && isKey) {
+						sb.append('\\').append(c);
+					} else {
+						sb.append(c);
+					}
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Writes a snapshot file containing the index entries of the given types.
+	 * <p>
+	 * The file is replaced as a whole, so a snapshot currently loaded from the same file stays valid.
+	 *
+	 * @param file The snapshot file to write; might <b>not</b> be null.
+	 * @param types The types to write entries for; might <b>not</b> be null.
+	 * @return The count of entries written
+	 */
+	static int save(File file, Collection<Class<?>> types) {
+		Path target = file.toPath().toAbsolutePath();
+		int count = 0;
+		try {
+			Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temp),
+					StandardCharsets.ISO_8859_1))) {
+				writer.write(HEADER);
+				writer.write(SEPARATOR_LINE);
+				for (Class<?> type : types) {
+					Long checksum = TYPE_CHECKSUMS.get(type).orElse(null);
+					Properties properties = checksum == null ? null : InjectionIndex.describe(type);
+					if (properties != null) {
+						writer.write(PREFIX_ENTRY + type.getName() + SEPARATOR_CHECKSUM + Long.toHexString(checksum));
+						writer.write(SEPARATOR_LINE);
+						for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+							writer.write(escape(key, true) + '=' + escape(properties.getProperty(key), false));
+							writer.write(SEPARATOR_LINE);
+						}
+						count++;
+					}
+				}
+			}
+
+			try {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new InjectionException("Unable to write the meta data snapshot to '" + file + "'", e);
+		}
+		return count;
+	}
+
+	/*
+	 * Types loaded from a jar are validated by the checksum of the whole jar, which is only computed once per jar;
+	 * types loaded from a directory or from an unknown location are validated by the checksum of their class file,
+	 * which is only computed once per type.
+	 * Types whose class file cannot be read are neither snapshotted nor looked up.
+	 */
+	private static Long checksumOrNull(Class<?> type) {
+		ClassLoader classLoader = type.getClassLoader();
+		if (classLoader == null) {
+			return null;
+		}
+
+		String classFile = type.getName().replace('.', '/') + ".class";
+		try {
+			CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+			if (codeSource != null && codeSource.getLocation() != null
+					&& "file".equals(codeSource.getLocation().getProtocol())) {
+				Path location = Paths.get(codeSource.getLocation().toURI());
+				if (Files.isRegularFile(location)) {
+					return JAR_CHECKSUMS.computeIfAbsent(location, InjectionSnapshot::checksumOrNull);
+				} else if (Files.isRegularFile(location.resolve(classFile))) {
+					return checksumOrNull(location.resolve(classFile));
+				}
+			}
+		} catch (URISyntaxException | SecurityException | IllegalArgumentException | FileSystemNotFoundException e) {
+			// Do nothing; fall back to reading the class file from the class loader
+		}
+
+		try (InputStream in = classLoader.getResourceAsStream(classFile)) {
+			return in == null ? null : checksum(in);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static Long checksumOrNull(Path file) {
+		try (InputStream in = Files.newInputStream(file)) {
+			return checksum(in);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	private static long checksum(InputStream in) throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] bytes = new byte[8192];
+		int read;
+		while ((read = in.read(bytes)) >= 0) {
+			crc.update(bytes, 0, read);
+		}
+		return crc.getValue();
+	}
+}
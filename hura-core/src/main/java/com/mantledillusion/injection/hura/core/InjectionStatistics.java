@@ -0,0 +1,160 @@
+package com.mantledillusion.injection.hura.core;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-only snapshot of the statistics of Hura's internal caches.
+ * <p>
+ * All values are cumulative since the start of the JVM; retrieve the statistics using {@link Injector#getStatistics()}.
+ */
+public final class InjectionStatistics {
+
+    /**
+     * The statistics of a single cache.
+     */
+    public static final class CacheStatistics {
+
+        private final String name;
+        private final long hits;
+        private final long misses;
+        private final long failures;
+        private final Duration loadTime;
+        private final long entries;
+
+        CacheStatistics(String name, long hits, long misses, long failures, Duration loadTime, long entries) {
+            this.name = name;
+            this.hits = hits;
+            this.misses = misses;
+            this.failures = failures;
+            this.loadTime = loadTime;
+            this.entries = entries;
+        }
+
+        /**
+         * Returns the name of the cache.
+         *
+         * @return The name, never null
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the count of requests that were answered from the cache.
+         *
+         * @return The count of hits, &gt;= 0
+         */
+        public long getHits() {
+            return this.hits;
+        }
+
+        /**
+         * Returns the count of requests that were not answered from the cache, which caused the requested entry to
+         * be loaded.
+         *
+         * @return The count of misses, &gt;= 0
+         */
+        public long getMisses() {
+            return this.misses;
+        }
+
+        /**
+         * Returns the count of loads of entries, including failed ones.
+         * <p>
+         * Entries are loaded upon misses, so the count is equal to {@link #getMisses()}.
+         *
+         * @return The count of loads, &gt;= 0
+         */
+        public long getLoads() {
+            return this.misses;
+        }
+
+        /**
+         * Returns the count of loads that failed, so no entry was cached.
+         *
+         * @return The count of failed loads, &gt;= 0
+         */
+        public long getFailures() {
+            return this.failures;
+        }
+
+        /**
+         * Returns the time spent loading entries.
+         *
+         * @return The cumulative load time, never null
+         */
+        public Duration getLoadTime() {
+            return this.loadTime;
+        }
+
+        /**
+         * Returns the count of entries in the cache.
+         * <p>
+         * Entries of caches bound to types are released together with their type; as unloading is not observable,
+         * the count of such caches includes entries of types that might have been unloaded since.
+         *
+         * @return The count of entries, &gt;= 0
+         */
+        public long getEntries() {
+            return this.entries;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "[hits=" + this.hits + ", misses=" + this.misses + ", failures=" + this.failures
+                    + ", loadTime=" + this.loadTime.toMillis() + "ms, entries=" + this.entries + "]";
+        }
+    }
+
+    private final List<CacheStatistics> reflectionCaches;
+    private final CacheStatistics pluginCache;
+    private final int pluginReflectionCacheCount;
+
+    InjectionStatistics(List<CacheStatistics> reflectionCaches, CacheStatistics pluginCache,
+                        int pluginReflectionCacheCount) {
+        this.reflectionCaches = reflectionCaches;
+        this.pluginCache = pluginCache;
+        this.pluginReflectionCacheCount = pluginReflectionCacheCount;
+    }
+
+    /**
+     * Returns the statistics of the caches holding the reflectively retrieved meta data of types, one per kind of
+     * meta data.
+     * <p>
+     * The statistics include the meta data of types loaded from plugins.
+     *
+     * @return The reflection cache statistics, never null
+     */
+    public List<CacheStatistics> getReflectionCaches() {
+        return this.reflectionCaches;
+    }
+
+    /**
+     * Returns the statistics of the cache holding the loaded plugins.
+     * <p>
+     * The entries are the plugins that are currently loaded.
+     *
+     * @return The plugin cache statistics, never null
+     */
+    public CacheStatistics getPluginCache() {
+        return this.pluginCache;
+    }
+
+    /**
+     * Returns the count of reflection caches of plugins that are currently alive.
+     * <p>
+     * Every loaded plugin owns a reflection cache, which is released together with the plugin's class loader.
+     *
+     * @return The count of plugin reflection caches, &gt;= 0
+     */
+    public int getPluginReflectionCacheCount() {
+        return this.pluginReflectionCacheCount;
+    }
+
+    @Override
+    public String toString() {
+        return "InjectionStatistics[reflectionCaches=" + this.reflectionCaches + ", pluginCache=" + this.pluginCache
+                + ", pluginReflectionCacheCount=" + this.pluginReflectionCacheCount + "]";
+    }
+}
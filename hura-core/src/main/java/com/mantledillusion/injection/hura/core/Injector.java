@@ -16,6 +16,7 @@ import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Context;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Optional;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
 import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
 import com.mantledillusion.injection.hura.core.exception.*;
@@ -28,12 +29,29 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.lang.reflect.*;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * An {@link Injector} for instantiating and injecting beans.
@@ -60,11 +78,26 @@ import java.util.regex.PatternSyntaxException;
  * but not up. As a result, injections by child {@link Injector}s are able to retrieve
  * {@link Blueprint.SingletonAllocation}s from the same pool as their parent in the tree, but cannot define
  * {@link Blueprint.SingletonAllocation}s that will be available to the parent (or another one of its children).
+ * <p>
+ * An {@link Injector} is thread safe; multiple threads may instantiate and destroy root beans using the same
+ * {@link Injector} at the same time. Every injection sequence works on singletons of its own, so concurrent sequences
+ * do not share any lock; only registering and unregistering root beans is synchronized, partitioned by the beans.
  */
 public class Injector implements ResolvingProvider, AggregationProvider, InjectionProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Injector.class);
 
+    /**
+     * The property key of the {@link Boolean} setting specifying whether the independent injection points of a bean
+     * are injected concurrently.
+     * <p>
+     * If set, the independent beans a bean's constructor parameters and fields are injected with are instantiated
+     * concurrently on a {@link ForkJoinPool}. Beans that are singletons or sub beans of singletons are always
+     * instantiated sequentially; the same singleton is never instantiated twice, but different singletons of the
+     * same injection sequence might be instantiated concurrently.
+     */
+    public static final String PROPERTY_PARALLEL_INJECTION = "_parallelInjection";
+
     private enum InjectorState {
         PRE_ACTIVE, ACTIVE, SHUTDOWN;
     }
@@ -95,7 +128,49 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
         @Override
         public synchronized void shutdown() throws ShutdownException {
             super.shutdown();
+            destroyRoot();
+        }
 
+        /**
+         * Extension to {@link #destroyAll(int, Duration, Duration)} that not only destroys the whole injection tree,
+         * but also all {@link Blueprint.Allocation}s the root injector may have as well.
+         * <p>
+         * The root injector's own {@link Blueprint.Allocation}s are only destroyed after all root beans' sub trees
+         * have been destroyed or timed out.
+         * <p>
+         * Since all root beans are handed over to destruction, the injector is shut down and its own
+         * {@link Blueprint.Allocation}s are destroyed even if the destruction of some sub trees fails or times out;
+         * sub trees that have timed out might still be in destruction when this method returns or throws.
+         *
+         * @param parallelism The maximum count of sub trees to destroy at the same time; has to be &gt; 0.
+         * @param treeTimeout The maximum duration to wait for the destruction of a single sub tree; might <b>not</b>
+         *                    be null.
+         * @param overallTimeout The maximum duration to wait for the destruction of all sub trees; might <b>not</b>
+         *                       be null.
+         * @return The root beans whose sub trees did not finish their destruction in time, never null
+         * @throws ShutdownException If the instance has already been shut down
+         * @throws DestructionException If the destruction processing of at least one sub tree failed
+         */
+        public synchronized Set<Object> shutdown(int parallelism, Duration treeTimeout, Duration overallTimeout)
+                throws ShutdownException, DestructionException {
+            Set<Object> unfinished;
+            try {
+                unfinished = destroyAll(parallelism, treeTimeout, overallTimeout);
+            } catch (DestructionException e) {
+                ((Injector) this).state = InjectorState.SHUTDOWN;
+                try {
+                    destroyRoot();
+                } catch (ProcessorException rootFailure) {
+                    e.addSuppressed(rootFailure);
+                }
+                throw e;
+            }
+            ((Injector) this).state = InjectorState.SHUTDOWN;
+            destroyRoot();
+            return unfinished;
+        }
+
+        private void destroyRoot() {
             int failingDestructionCount =
                     ((Injector) this).destroy(this, rootDestroyables.get(Phase.PRE_DESTROY), false) +
                             ((Injector) this).destroy(this, rootDestroyables.get(Phase.POST_DESTROY), false);
@@ -107,6 +182,65 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
         }
     }
 
+    /**
+     * The outcome of warming up the meta data caches using {@link Injector#preload(Collection)}.
+     */
+    public static final class PreloadReport {
+
+        private final int typeCount;
+        private final Duration duration;
+
+        private PreloadReport(int typeCount, Duration duration) {
+            this.typeCount = typeCount;
+            this.duration = duration;
+        }
+
+        /**
+         * Returns the count of types whose meta data has been warmed up, including all of the given root types.
+         *
+         * @return The count of warmed up types, &gt;= 0
+         */
+        public int getTypeCount() {
+            return this.typeCount;
+        }
+
+        /**
+         * Returns how long the warm up took.
+         *
+         * @return The duration of the warm up, never null
+         */
+        public Duration getDuration() {
+            return this.duration;
+        }
+
+        @Override
+        public String toString() {
+            return "Preloaded " + this.typeCount + " types in " + this.duration.toMillis() + "ms";
+        }
+    }
+
+    private static final class PreloadTask extends RecursiveAction {
+
+        private final Class<?> type;
+        private final Set<Class<?>> preloaded;
+
+        private PreloadTask(Class<?> type, Set<Class<?>> preloaded) {
+            this.type = type;
+            this.preloaded = preloaded;
+        }
+
+        @Override
+        protected void compute() {
+            List<PreloadTask> dependencyTasks = new ArrayList<>();
+            for (Class<?> dependency : preloadType(this.type)) {
+                if (this.preloaded.add(dependency)) {
+                    dependencyTasks.add(new PreloadTask(dependency, this.preloaded));
+                }
+            }
+            invokeAll(dependencyTasks);
+        }
+    }
+
     /**
      * A temporarily valid callback that offers {@link StatefulService} functionality by delegating calls to the
      * functions of...<br>
@@ -207,6 +341,25 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
             return this.chain.aggregate(type, biPredicates);
         }
 
+        @Override
+        public <T> Collection<T> aggregate(Class<T> type, String qualifierMatcher,
+                                           Collection<BiPredicate<String, T>> predicates) {
+            return aggregate(type, QualifierMatcher.addTo(qualifierMatcher, predicates));
+        }
+
+        @Override
+        public <T> Stream<T> stream(Class<T> type, Collection<BiPredicate<String, T>> predicates) {
+            checkActive(AggregationProvider.class);
+
+            return this.chain.stream(type, predicates);
+        }
+
+        @Override
+        public <T> Stream<T> stream(Class<T> type, String qualifierMatcher,
+                                    Collection<BiPredicate<String, T>> predicates) {
+            return stream(type, QualifierMatcher.addTo(qualifierMatcher, predicates));
+        }
+
         Object aggregate(Parameter p, AggregationSettings<?> paramSet) {
             return Injector.this.aggregate(this.chain, paramSet, p);
         }
@@ -343,6 +496,170 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
     interface SelfSustainingProcessor {
 
         void process() throws Exception;
+
+        default boolean isAsync() {
+            return false;
+        }
+    }
+
+    /*
+     * Handles the invocations on the proxy injected into an injection point in the InjectionMode LAZY; instantiates
+     * the actual bean in a child sequence of the injection sequence the proxy was injected in upon the first
+     * invocation, which is run on the invoking thread as a part of all sequences the thread is hooked on.
+     */
+    private final class LazyInvocationHandler<T> implements InvocationHandler {
+
+        private final InjectionChain injectionChain;
+        private final InjectionSettings<T> set;
+
+        private volatile T instance;
+        private FutureTask<T> instantiation;
+        private Thread instantiatingThread;
+        private List<SelfSustainingProcessor> preDestroyables = Collections.emptyList();
+        private List<SelfSustainingProcessor> postDestroyables = Collections.emptyList();
+        private boolean isDestroyed;
+
+        private LazyInvocationHandler(InjectionChain injectionChain, InjectionSettings<T> set) {
+            this.injectionChain = injectionChain;
+            this.set = set;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                // NEITHER OF THE METHODS OF OBJECT A PROXY DELEGATES REQUIRES THE BEAN TO EXIST
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return this.set.type.getName() + "$Lazy@" + Integer.toHexString(System.identityHashCode(proxy));
+                }
+            }
+
+            try {
+                return method.invoke(getInstance(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        /*
+         * Returns the bean, instantiating it if there is none yet; the first invoking thread instantiates it without
+         * holding the handler's monitor, all others wait for its instantiation to finish.
+         */
+        private T getInstance() throws Throwable {
+            T instance = this.instance;
+            if (instance != null) {
+                return instance;
+            }
+
+            FutureTask<T> instantiation;
+            boolean isInstantiating = false;
+            synchronized (this) {
+                if (this.isDestroyed) {
+                    throw new InjectionException("Cannot instantiate the lazily injected "
+                            + this.set.type.getSimpleName() + ", as the injection sequence it has been injected in "
+                            + "has already been destroyed.");
+                } else if (this.instance != null) {
+                    return this.instance;
+                } else if (this.instantiation == null) {
+                    this.instantiation = new FutureTask<>(this::instantiate);
+                    this.instantiatingThread = Thread.currentThread();
+                    isInstantiating = true;
+                } else if (this.instantiatingThread == Thread.currentThread()) {
+                    throw new InjectionException("Cannot use the lazily injected " + this.set.type.getSimpleName()
+                            + " during its own instantiation.");
+                }
+                instantiation = this.instantiation;
+            }
+
+            if (isInstantiating) {
+                instantiation.run();
+            }
+            try {
+                return instantiation.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InjectionException("Interrupted while waiting for the lazily injected "
+                        + this.set.type.getSimpleName() + " to be instantiated.", e);
+            }
+        }
+
+        private T instantiate() {
+            InjectionChain chain = this.injectionChain.forLazyInjection();
+            List<T> instance = new ArrayList<>(1);
+            boolean isDestroyed;
+            try {
+                chain.fork(() -> instance.add(instantiateLazily(chain))).run();
+            } finally {
+                // A FAILED INSTANTIATION IS RETRIED UPON THE NEXT INVOCATION
+                synchronized (this) {
+                    isDestroyed = this.isDestroyed;
+                    if (!instance.isEmpty() && !isDestroyed) {
+                        this.instance = instance.get(0);
+                        this.preDestroyables = chain.getPreDestroyables();
+                        this.postDestroyables = chain.getPostDestroyables();
+                    }
+                    this.instantiation = null;
+                    this.instantiatingThread = null;
+                }
+            }
+
+            // THE SEQUENCE MIGHT HAVE BEEN DESTROYED WHILE THE BEAN WAS INSTANTIATED, WHICH IS THEN DESTROYED AS WELL
+            if (isDestroyed) {
+                Injector.this.destroy(instance.get(0), chain.getPreDestroyables(), true);
+                Injector.this.destroy(instance.get(0), chain.getPostDestroyables(), true);
+                throw new InjectionException("Cannot use the lazily injected " + this.set.type.getSimpleName()
+                        + ", as the injection sequence it has been injected in has been destroyed during its "
+                        + "instantiation.");
+            }
+            return instance.get(0);
+        }
+
+        private T instantiateLazily(InjectionChain chain) {
+            try {
+                T instance = Injector.this.instantiate(chain, this.set);
+
+                Injector.this.finalize(chain.getAggregateables());
+                Injector.this.finalize(chain.getActivateables());
+                Injector.this.finalizeConcurrently(chain, chain.getPostConstructables());
+
+                return instance;
+            } catch (Exception e) {
+                int failingDestructionCount = Injector.this.destroy(null, chain.getPreDestroyables(), false) +
+                        Injector.this.destroy(null, chain.getPostDestroyables(), false);
+
+                if (failingDestructionCount > 0) {
+                    Injector.this.failDestruction(null, failingDestructionCount, e);
+                }
+                throw e;
+            }
+        }
+
+        private void preDestroy() {
+            T instance;
+            List<SelfSustainingProcessor> destroyables;
+            synchronized (this) {
+                this.isDestroyed = true;
+                instance = this.instance;
+                destroyables = this.preDestroyables;
+            }
+            Injector.this.destroy(instance, destroyables, true);
+        }
+
+        private void postDestroy() {
+            T instance;
+            List<SelfSustainingProcessor> destroyables;
+            synchronized (this) {
+                instance = this.instance;
+                destroyables = this.postDestroyables;
+            }
+            Injector.this.destroy(instance, destroyables, true);
+        }
     }
 
     private final SingletonContext singletonContext;
@@ -350,9 +667,9 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
     private final AliasContext aliasContext;
     private final TypeContext typeContext;
 
-    private final IdentityHashMap<Object, Map<Phase, List<SelfSustainingProcessor>>> beans = new IdentityHashMap<>();
+    private final RootBeanRegistry<Map<Phase, List<SelfSustainingProcessor>>> beans = new RootBeanRegistry<>();
 
-    private InjectorState state = InjectorState.PRE_ACTIVE;
+    private volatile InjectorState state = InjectorState.PRE_ACTIVE;
 
     @Construct
     private Injector(
@@ -384,6 +701,24 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
         return this.singletonContext.aggregate(type, biPredicates);
     }
 
+    @Override
+    public <T> Collection<T> aggregate(Class<T> type, String qualifierMatcher,
+                                       Collection<BiPredicate<String, T>> predicates) {
+        return aggregate(type, QualifierMatcher.addTo(qualifierMatcher, predicates));
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, Collection<BiPredicate<String, T>> predicates) {
+        checkActive();
+
+        return this.singletonContext.stream(type, predicates);
+    }
+
+    @Override
+    public <T> Stream<T> stream(Class<T> type, String qualifierMatcher, Collection<BiPredicate<String, T>> predicates) {
+        return stream(type, QualifierMatcher.addTo(qualifierMatcher, predicates));
+    }
+
     @Override
     public final <T> T instantiate(Class<T> clazz, Blueprint.Allocation allocation, Blueprint.Allocation... allocations) {
         return instantiate(clazz, InjectionAllocations.ofAllocations(ListEssentials.toList(allocations, allocation)));
@@ -425,7 +760,7 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
 
             finalize(chain.getAggregateables());
             finalize(chain.getActivateables());
-            finalize(chain.getPostConstructables());
+            finalizeConcurrently(chain, chain.getPostConstructables());
         } catch (Exception e) {
             chain.clearHook();
 
@@ -443,13 +778,67 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
 
     private void finalize(List<SelfSustainingProcessor> finalizables) {
         Collections.reverse(finalizables);
+        for (SelfSustainingProcessor finalizable : finalizables) {
+            finalize(finalizable);
+        }
+    }
+
+    private void finalizeConcurrently(InjectionChain chain, List<SelfSustainingProcessor> finalizables) {
+        Collections.reverse(finalizables);
+        Executor executor = null;
+        List<CompletableFuture<Void>> asyncFinalizations = new ArrayList<>();
+        RuntimeException failure = null;
         for (SelfSustainingProcessor finalizable : finalizables) {
             try {
-                finalizable.process();
-            } catch (Exception e) {
-                throw new ProcessorException("Unable to finalize; the processing threw an exception", e);
+                if (finalizable.isAsync()) {
+                    if (executor == null) {
+                        executor = getPostConstructExecutor(chain);
+                    }
+                    asyncFinalizations.add(CompletableFuture.runAsync(() -> finalize(finalizable), executor));
+                } else {
+                    finalize(finalizable);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+                break;
+            }
+        }
+
+        // ALWAYS WAIT FOR ALL STARTED FINALIZATIONS, SO A ROLLBACK DOES NOT RUN CONCURRENTLY TO THEM
+        for (CompletableFuture<Void> asyncFinalization : asyncFinalizations) {
+            try {
+                asyncFinalization.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() :
+                            new ProcessorException("Unable to finalize; the processing threw an exception", e.getCause());
+                }
             }
         }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void finalize(SelfSustainingProcessor finalizable) {
+        try {
+            finalizable.process();
+        } catch (Exception e) {
+            throw new ProcessorException("Unable to finalize; the processing threw an exception", e);
+        }
+    }
+
+    private Executor getPostConstructExecutor(InjectionChain chain) {
+        if (chain.hasSingleton(PostConstruct.QUALIFIER_EXECUTOR, Executor.class, false)) {
+            Object executor = chain.retrieveSingleton(PostConstruct.QUALIFIER_EXECUTOR);
+            if (!(executor instanceof Executor)) {
+                throw new ProcessorException("The singleton allocated to the qualifier '"
+                        + PostConstruct.QUALIFIER_EXECUTOR + "' is not an " + Executor.class.getSimpleName());
+            }
+            return (Executor) executor;
+        }
+        return ForkJoinPool.commonPool();
     }
 
     private int destroy(Object bean, List<SelfSustainingProcessor> destroyables, boolean throwOnFailures) {
@@ -486,8 +875,12 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
 
     @SuppressWarnings("unchecked")
     private <T> T instantiate(InjectionChain injectionChain, InjectionSettings<T> set) {
+        if (set.injectionMode == Optional.InjectionMode.LAZY) {
+            return instantiateLazily(injectionChain, set);
+        }
+
         InjectionChain hook = injectionChain;
-        hook.hookOnThread();
+        boolean isHooked = hook.hookOnThread();
 
         injectionChain = applyExtensions(injectionChain, set);
 
@@ -501,13 +894,45 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
                 instance = createAndInject(injectionChain, set, buildApplicators(injectionChain, set), false);
             }
         } else {
-            Object singleton = null;
+            instance = instantiateSingleton(injectionChain, set);
+        }
 
-            set = set.refine(injectionChain.resolve(ResolvingSettings.of(set.qualifier)));
-            if (injectionChain.hasMapping(set.qualifier)) {
-                set = set.refine(injectionChain.map(set.qualifier));
-            }
+        if (isHooked) {
+            hook.unhookFromThread();
+        }
 
+        return instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T instantiateLazily(InjectionChain injectionChain, InjectionSettings<T> set) {
+        LazyInvocationHandler<T> handler = new LazyInvocationHandler<>(injectionChain,
+                set.refine(Optional.InjectionMode.EAGER));
+
+        // THE LAZILY INSTANTIATED BEAN IS DESTROYED ALONG WITH THE SEQUENCE IT HAS BEEN INJECTED IN
+        injectionChain.addPreDestroyable(handler::preDestroy);
+        injectionChain.addPostDestroyable(handler::postDestroy);
+
+        return (T) Proxy.newProxyInstance(set.type.getClassLoader(), new Class<?>[] { set.type }, handler);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T instantiateSingleton(InjectionChain injectionChain, InjectionSettings<T> set) {
+        T instance = null;
+        Object singleton = null;
+
+        set = set.refine(injectionChain.resolve(ResolvingSettings.of(set.qualifier)));
+        if (injectionChain.hasMapping(set.qualifier)) {
+            set = set.refine(injectionChain.map(set.qualifier));
+        }
+
+        // BEANS OF THE SEQUENCE MIGHT BE INJECTED CONCURRENTLY; THE SAME SINGLETON IS NEVER CREATED TWICE
+        boolean isParallel = Boolean.parseBoolean(
+                injectionChain.getResolvingContext().getProperty(PROPERTY_PARALLEL_INJECTION));
+        if (isParallel) {
+            injectionChain.getSingletonContext().lockCreation(set.qualifier);
+        }
+        try {
             boolean allocatedOnly = set.injectionMode == Optional.InjectionMode.EXPLICIT;
             if (injectionChain.hasSingletonAllocator(set.qualifier)) {
                 singleton = ((AbstractAllocator<T>) injectionChain.getSingletonAllocator(set.qualifier))
@@ -518,20 +943,22 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
             } else if (!allocatedOnly) {
                 singleton = createAndInject(injectionChain, set, buildApplicators(injectionChain, set), false);
             }
-
-            if (singleton != null) {
-                if (set.type.isAssignableFrom(singleton.getClass())) {
-                    instance = (T) singleton;
-                } else {
-                    throw new InjectionException("The singleton with the id '" + set.qualifier
-                            + "' needs to be injected with an assignable of the type " + set.type.getSimpleName()
-                            + ", but there already exists a singleton of that name with the type "
-                            + singleton.getClass().getSimpleName() + " who is not assignable.");
-                }
+        } finally {
+            if (isParallel) {
+                injectionChain.getSingletonContext().releaseCreation(set.qualifier);
             }
         }
 
-        hook.unhookFromThread();
+        if (singleton != null) {
+            if (set.type.isAssignableFrom(singleton.getClass())) {
+                instance = (T) singleton;
+            } else {
+                throw new InjectionException("The singleton with the id '" + set.qualifier
+                        + "' needs to be injected with an assignable of the type " + set.type.getSimpleName()
+                        + ", but there already exists a singleton of that name with the type "
+                        + singleton.getClass().getSimpleName() + " who is not assignable.");
+            }
+        }
 
         return instance;
     }
@@ -547,8 +974,13 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
     }
 
     private <T> InjectionProcessors<T> buildApplicators(InjectionChain chain, InjectionSettings<T> set) {
+        InjectionProcessors.Template<T> template = ReflectionCache.getBeanDescriptor(set.type).getProcessorTemplate();
+        if (!template.isSequenceSpecific()) {
+            return template.apply(null);
+        }
+
         TemporalInjectorCallback callback = new TemporalInjectorCallback(chain, Phase.PRE_CONSTRUCT);
-        InjectionProcessors<T> applicators = InjectionProcessors.of(set.type, callback);
+        InjectionProcessors<T> applicators = template.apply(callback);
         callback.shutdown();
 
         return applicators;
@@ -568,24 +1000,16 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
 
         process(null, set.type, injectionChain, Phase.PRE_CONSTRUCT, applicators.getProcessorsOfPhase(Phase.PRE_CONSTRUCT));
 
-        InjectableConstructor<T> injectableConstructor = ReflectionCache.getInjectableConstructor(set.type);
+        BeanDescriptor<T> descriptor = applicators.getDescriptor() != null && applicators.getDescriptor().getType() == set.type
+                ? applicators.getDescriptor() : ReflectionCache.getBeanDescriptor(set.type);
+        InjectableConstructor<T> injectableConstructor = descriptor.getConstructor();
 
         injectionChain = injectionChain.extendBy(injectableConstructor.getConstructor(), set);
 
-        Object[] parameters = new Object[injectableConstructor.getParamCount()];
-        for (int i = 0; i < injectableConstructor.getParamCount(); i++) {
-            ParamSettingType type = injectableConstructor.getSettingTypeOfParam(i);
-            if (type == ParamSettingType.RESOLVABLE || type == ParamSettingType.BOTH) {
-                parameters[i] = injectionChain.resolve(injectableConstructor.getResolvingSettings(i));
-            }
-            if (type == ParamSettingType.INJECTABLE || type == ParamSettingType.BOTH) {
-                InjectionSettings<?> paramInjectionSettings = injectableConstructor.getInjectionSettings(i);
-                Object instantiated = instantiate(injectionChain, paramInjectionSettings);
-                parameters[i] = parameters[i] == null ? instantiated
-                        : (instantiated != null || paramInjectionSettings.overwriteWithNull ? instantiated
-                        : parameters[i]);
-            }
-        }
+        boolean isParallel = injectionChain.isIndependent() && Boolean.parseBoolean(
+                injectionChain.getResolvingContext().getProperty(PROPERTY_PARALLEL_INJECTION));
+
+        Object[] parameters = supplyParameters(injectionChain, injectableConstructor, isParallel);
 
         T instance;
         try {
@@ -600,58 +1024,135 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
                 applicators.getProcessorsOfPhase(Phase.PRE_DESTROY),
                 applicators.getProcessorsOfPhase(Phase.POST_DESTROY));
 
-        for (Method m: ReflectionCache.getMethodsAnnotatedWith(instance.getClass(), Subscribe.class)) {
+        for (Method m: descriptor.getMethodsAnnotatedWith(Subscribe.class)) {
             injectionChain.getEventBackbone().subscribe(instance, m);
         }
 
         registerPostConstructProcessors(instance, injectionChain, applicators.getProcessorsOfPhase(Phase.POST_CONSTRUCT));
 
-        for (ResolvableField resolvableField: ReflectionCache.getResolvableFields(set.type)) {
-            Field field = resolvableField.getField();
-            ResolvingSettings<?> fieldSet = resolvableField.getSettings();
+        injectFields(injectionChain, instance, descriptor, isParallel);
 
-            Object property = injectionChain.resolve(fieldSet);
+        process(instance, set.type, injectionChain, Phase.POST_INJECT, applicators.getProcessorsOfPhase(Phase.POST_INJECT));
 
-            try {
-                field.set(instance, property);
-            } catch (IllegalAccessException e) {
-                throw new InjectionException("Unable to resolve field '" + field.getName() + "' of the type "
-                        + field.getDeclaringClass().getSimpleName() + "; unable to gain access", e);
+        for (AggregateableField aggregateableField: descriptor.getAggregateableFields()) {
+            registerAggregationProcessor(injectionChain, instance, aggregateableField, aggregateableField.getSettings());
+        }
+
+        return instance;
+    }
+
+    private Object[] supplyParameters(InjectionChain injectionChain, InjectableConstructor<?> injectableConstructor,
+                                      boolean isParallel) {
+        Object[] parameters = new Object[injectableConstructor.getParamCount()];
+        List<Runnable> injections = new ArrayList<>();
+        for (int i = 0; i < injectableConstructor.getParamCount(); i++) {
+            int paramIdx = i;
+            ParamSettingType type = injectableConstructor.getSettingTypeOfParam(i);
+            if (type == ParamSettingType.RESOLVABLE || type == ParamSettingType.BOTH) {
+                parameters[i] = injectionChain.resolve(injectableConstructor.getResolvingSettings(i));
+            }
+            if (type == ParamSettingType.INJECTABLE || type == ParamSettingType.BOTH) {
+                InjectionSettings<?> paramInjectionSettings = injectableConstructor.getInjectionSettings(i);
+                Runnable injection = () -> {
+                    Object instantiated = instantiate(injectionChain, paramInjectionSettings);
+                    parameters[paramIdx] = parameters[paramIdx] == null ? instantiated
+                            : (instantiated != null || paramInjectionSettings.overwriteWithNull ? instantiated
+                            : parameters[paramIdx]);
+                };
+                if (isParallel && paramInjectionSettings.isIndependent) {
+                    injections.add(injection);
+                } else {
+                    injection.run();
+                }
             }
         }
+        injectConcurrently(injectionChain, injections);
+        return parameters;
+    }
 
-        for (InjectableField injectableField: ReflectionCache.getInjectableFields(set.type)) {
-            Field field = injectableField.getField();
-            InjectionSettings<?> fieldSet = injectableField.getSettings();
+    private void injectFields(InjectionChain injectionChain, Object instance, BeanDescriptor<?> descriptor,
+                              boolean isParallel) {
+        for (ResolvableField resolvableField: descriptor.getResolvableFields()) {
+            resolveField(injectionChain, instance, resolvableField);
+        }
 
-            Object bean = instantiate(injectionChain, fieldSet);
+        List<Runnable> injections = new ArrayList<>();
+        for (InjectableField injectableField: descriptor.getInjectableFields()) {
+            if (isParallel && injectableField.getSettings().isIndependent) {
+                injections.add(() -> injectField(injectionChain, instance, injectableField));
+            } else {
+                injectField(injectionChain, instance, injectableField);
+            }
+        }
+        injectConcurrently(injectionChain, injections);
+    }
 
-            if (bean != null || fieldSet.overwriteWithNull) {
-                try {
-                    field.set(instance, bean);
-                } catch (IllegalArgumentException e) {
-                    throw new InjectionException(
-                            "Unable to set instance of type " + instance.getClass().getName() + " to field '"
-                                    + field.getName() + "' of the type " + field.getDeclaringClass().getSimpleName()
-                                    + ", whose type is " + field.getType().getSimpleName(),
-                            e);
-                } catch (IllegalAccessException e) {
-                    throw new InjectionException("Unable to inject field '" + field.getName() + "' of the type "
-                            + field.getDeclaringClass().getSimpleName() + "; unable to gain access", e);
-                }
+    /*
+     * Forks all but the first injection onto the current ForkJoinPool (or the common pool, if the current thread is
+     * not a worker of one) and performs the first one on the current thread; all injections are waited for before an
+     * exception of any of them is rethrown, so all beans injected until then are registered for the rollback.
+     */
+    private void injectConcurrently(InjectionChain injectionChain, List<Runnable> injections) {
+        if (injections.size() < 2) {
+            injections.forEach(Runnable::run);
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(injections.size() - 1);
+        for (Runnable injection : injections.subList(1, injections.size())) {
+            tasks.add(ForkJoinTask.adapt(injectionChain.fork(injection)).fork());
+        }
+
+        RuntimeException failure = null;
+        try {
+            injections.get(0).run();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException e) {
+                failure = failure == null ? e : failure;
             }
         }
 
-        process(instance, set.type, injectionChain, Phase.POST_INJECT, applicators.getProcessorsOfPhase(Phase.POST_INJECT));
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
-        for (AggregateableField aggregateableField: ReflectionCache.getAggregateableFields(set.type)) {
-            Field field = aggregateableField.getField();
-            AggregationSettings<?> fieldSet = aggregateableField.getSettings();
+    private void resolveField(InjectionChain injectionChain, Object instance, ResolvableField resolvableField) {
+        Field field = resolvableField.getField();
 
-            registerAggregationProcessor(injectionChain, instance, field, fieldSet);
+        try {
+            resolvableField.resolve(instance, injectionChain.getResolvingContext());
+        } catch (IllegalAccessException e) {
+            throw new InjectionException("Unable to resolve field '" + field.getName() + "' of the type "
+                    + field.getDeclaringClass().getSimpleName() + "; unable to gain access", e);
         }
+    }
 
-        return instance;
+    private void injectField(InjectionChain injectionChain, Object instance, InjectableField injectableField) {
+        Field field = injectableField.getField();
+        InjectionSettings<?> fieldSet = injectableField.getSettings();
+
+        Object bean = instantiate(injectionChain, fieldSet);
+
+        if (bean != null || fieldSet.overwriteWithNull) {
+            try {
+                injectableField.set(instance, bean);
+            } catch (IllegalArgumentException e) {
+                throw new InjectionException(
+                        "Unable to set instance of type " + instance.getClass().getName() + " to field '"
+                                + field.getName() + "' of the type " + field.getDeclaringClass().getSimpleName()
+                                + ", whose type is " + field.getType().getSimpleName(),
+                        e);
+            } catch (IllegalAccessException e) {
+                throw new InjectionException("Unable to inject field '" + field.getName() + "' of the type "
+                        + field.getDeclaringClass().getSimpleName() + "; unable to gain access", e);
+            }
+        }
     }
 
     private <T> void handleDestroying(InjectionChain chain, InjectionSettings<?> set, T instance, boolean isAllocatedInjection,
@@ -684,8 +1185,24 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
             injectionChain.addActivateable(() -> ((Injector) instance).state = InjectorState.ACTIVE);
         }
         for (InjectionProcessors.LifecycleAnnotationProcessor<? super T> finalizer : postConstructors) {
-            injectionChain.addPostConstructables(() -> process(instance, (Class<T>) instance.getClass(),
-                    injectionChain, Phase.POST_CONSTRUCT, finalizer));
+            if (finalizer.isAsync()) {
+                injectionChain.addPostConstructables(new SelfSustainingProcessor() {
+
+                    @Override
+                    public void process() {
+                        Injector.this.process(instance, (Class<T>) instance.getClass(),
+                                injectionChain, Phase.POST_CONSTRUCT, finalizer);
+                    }
+
+                    @Override
+                    public boolean isAsync() {
+                        return true;
+                    }
+                });
+            } else {
+                injectionChain.addPostConstructables(() -> process(instance, (Class<T>) instance.getClass(),
+                        injectionChain, Phase.POST_CONSTRUCT, finalizer));
+            }
         }
     }
 
@@ -709,12 +1226,14 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
         }
     }
 
-    private <T> void registerAggregationProcessor(InjectionChain chain, Object instance, Field field, AggregationSettings<T> fieldSet) {
+    private <T> void registerAggregationProcessor(InjectionChain chain, Object instance, AggregateableField aggregateableField,
+                                                  AggregationSettings<T> fieldSet) {
+        Field field = aggregateableField.getField();
         chain.addAggregateable(() -> {
             Object parameter = aggregate(chain, fieldSet, field);
 
             try {
-                field.set(instance, parameter);
+                aggregateableField.set(instance, parameter);
             } catch (IllegalArgumentException e) {
                 throw new AggregationException(
                         "Unable to set instance of type " + parameter.getClass().getName() + " to field '"
@@ -729,54 +1248,88 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
     }
 
     private <T> Object aggregate(InjectionChain chain, AggregationSettings<T> fieldSet, AnnotatedElement annotatedElement) {
-        List<BiPredicate<String, T>> predicates = new ArrayList<>();
-        if (fieldSet.qualifierMatcher != null) {
-            String qualifierMatcher = chain.resolve(ResolvingSettings.of(fieldSet.qualifierMatcher));
-            try {
-                Pattern.compile(qualifierMatcher);
-            } catch (PatternSyntaxException | NullPointerException e) {
-                throw new AggregationException("The " + ValidatorUtils.getDescription(annotatedElement)
-                        + " is annotated with @" + Aggregate.class.getSimpleName() + ", but the qualifierMatcher '"
-                        + qualifierMatcher + "' (resolved from '" + fieldSet.qualifierMatcher + "') is no valid pattern.", e);
-            }
-            predicates.add((qualifier, bean) -> qualifier.matches(qualifierMatcher));
-        }
-        for (Class<? extends BiPredicate<String, T>> predicateType: fieldSet.predicates) {
-            predicates.add(instantiate(chain, InjectionSettings.of(predicateType)));
+        String qualifierMatcher = fieldSet.qualifierMatcher == null ? null
+                : chain.resolve(ResolvingSettings.of(fieldSet.qualifierMatcher));
+
+        // SINGLETONS AGGREGATED BY DETERMINISTIC PREDICATES DO NOT CHANGE UNTIL A SINGLETON IS ADDED
+        List<Object> key = fieldSet.toKey(qualifierMatcher);
+        List<T> memoized = null;
+        Stream<T> singletons;
+        if (fieldSet.memoizable) {
+            memoized = chain.memoize(key, () -> Collections.unmodifiableList(
+                    stream(chain, fieldSet, qualifierMatcher, annotatedElement).collect(Collectors.toList())));
+            singletons = memoized.stream();
+        } else {
+            singletons = stream(chain, fieldSet, qualifierMatcher, annotatedElement);
         }
 
-        Collection<T> singletons = chain.aggregate(fieldSet.type, predicates);
-
         Object parameter = null;
         switch (fieldSet.aggregationMode) {
             case SINGLE:
-                if (singletons.isEmpty()) {
+                // A SECOND CANDIDATE IS ENOUGH TO DETERMINE THAT THE SINGLETON IS AMBIGUOUS
+                List<T> candidates = singletons.limit(2).collect(Collectors.toList());
+                if (candidates.isEmpty()) {
                     if (!fieldSet.optional) {
                         throw new AggregationException("The non-optional '" + ValidatorUtils.getDescription(annotatedElement)
                                 + " requires the aggregation of a single singleton instance, but no candidate is found");
                     }
-                } else if (singletons.size() > 1) {
+                } else if (candidates.size() > 1) {
                     if (!fieldSet.distinct) {
                         throw new AggregationException("The non-distinct " + ValidatorUtils.getDescription(annotatedElement)
-                                + " requires the aggregation of a single singleton instance, but " + singletons.size()
+                                + " requires the aggregation of a single singleton instance, but multiple"
                                 + " candidates have been found");
                     }
-                    parameter = singletons.stream().findFirst().get();
+                    parameter = candidates.get(0);
                 } else {
-                    parameter = singletons.stream().findFirst().get();
+                    parameter = candidates.get(0);
                 }
                 break;
             case LIST:
-                parameter = new ArrayList<>(singletons);
+                if (!fieldSet.immutable) {
+                    parameter = singletons.collect(Collectors.toCollection(ArrayList::new));
+                } else if (memoized != null) {
+                    parameter = memoized;
+                } else {
+                    parameter = Collections.unmodifiableList(singletons.collect(Collectors.toList()));
+                }
                 break;
             case SET:
-                parameter = new HashSet<>(singletons);
+                if (!fieldSet.immutable) {
+                    parameter = singletons.collect(Collectors.toCollection(HashSet::new));
+                } else if (memoized != null) {
+                    List<T> memoizedList = memoized;
+                    parameter = chain.memoize(Arrays.asList(key, AggregationSettings.AggregationMode.SET),
+                            () -> Collections.unmodifiableSet(new HashSet<>(memoizedList)));
+                } else {
+                    parameter = Collections.unmodifiableSet(singletons.collect(Collectors.toSet()));
+                }
                 break;
         }
 
         return parameter;
     }
 
+    private <T> Stream<T> stream(InjectionChain chain, AggregationSettings<T> fieldSet, String qualifierMatcher,
+                                 AnnotatedElement annotatedElement) {
+        List<BiPredicate<String, T>> predicates = new ArrayList<>();
+        if (qualifierMatcher != null) {
+            Pattern pattern;
+            try {
+                pattern = Pattern.compile(qualifierMatcher);
+            } catch (PatternSyntaxException | NullPointerException e) {
+                throw new AggregationException("The " + ValidatorUtils.getDescription(annotatedElement)
+                        + " is annotated with @" + Aggregate.class.getSimpleName() + ", but the qualifierMatcher '"
+                        + qualifierMatcher + "' (resolved from '" + fieldSet.qualifierMatcher + "') is no valid pattern.", e);
+            }
+            predicates.add(new QualifierMatcher<>(pattern));
+        }
+        for (Class<? extends BiPredicate<String, T>> predicateType: fieldSet.predicates) {
+            predicates.add(instantiate(chain, InjectionSettings.of(predicateType)));
+        }
+
+        return chain.stream(fieldSet.type, predicates);
+    }
+
     /**
      * Destroys the given root bean.
      * <p>
@@ -797,10 +1350,10 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
      */
     public void destroy(Object rootBean) {
         checkActive();
-        if (this.beans.containsKey(rootBean)) {
-            Map<Phase, List<SelfSustainingProcessor>> destroyers = this.beans.get(rootBean);
+        // UNREGISTERING FIRST ENSURES THAT CONCURRENT CALLS CANNOT DESTROY THE SAME ROOT BEAN TWICE
+        Map<Phase, List<SelfSustainingProcessor>> destroyers = this.beans.remove(rootBean);
+        if (destroyers != null) {
             destroy(rootBean, destroyers.get(Phase.PRE_DESTROY), true);
-            this.beans.remove(rootBean);
             destroy(rootBean, destroyers.get(Phase.POST_DESTROY), true);
         } else {
             throw new IllegalArgumentException(
@@ -815,18 +1368,143 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
      */
     public void destroyAll() {
         checkActive();
-        Iterator<Entry<Object, Map<Phase, List<SelfSustainingProcessor>>>> beanIter = this.beans.entrySet().iterator();
-        while (beanIter.hasNext()) {
-            Entry<Object, Map<Phase, List<SelfSustainingProcessor>>> entry = beanIter.next();
+        Entry<Object, Map<Phase, List<SelfSustainingProcessor>>> entry;
+        while ((entry = this.beans.poll()) != null) {
             Object bean = entry.getKey();
             Map<Phase, List<SelfSustainingProcessor>> destroyers = entry.getValue();
 
             destroy(bean, destroyers.get(Phase.PRE_DESTROY), true);
-            beanIter.remove();
             destroy(bean, destroyers.get(Phase.POST_DESTROY), true);
         }
     }
 
+    /**
+     * Parallel version of {@link #destroyAll()}.
+     * <p>
+     * The injection sub trees of the root beans instantiated by this {@link Injector} are independent of each other,
+     * so they are destroyed concurrently. Within each sub tree, all {@link Phase#PRE_DESTROY} processing is done
+     * before its {@link Phase#POST_DESTROY} processing, as it is with {@link #destroy(Object)}.
+     * <p>
+     * Sub trees whose destruction does not finish in time are not waited for any longer; their destruction
+     * continues in the background, but they are reported by the returned {@link Set}. A sub tree's timeout starts as
+     * soon as its destruction starts.
+     *
+     * @param parallelism The maximum count of sub trees to destroy at the same time; has to be &gt; 0.
+     * @param treeTimeout The maximum duration to wait for the destruction of a single sub tree; might <b>not</b> be
+     *                    null.
+     * @param overallTimeout The maximum duration to wait for the destruction of all sub trees; might <b>not</b> be
+     *                       null.
+     * @return The root beans whose sub trees did not finish their destruction in time, never null
+     * @throws DestructionException If the destruction processing of at least one sub tree failed; the root beans whose
+     * sub trees did not finish their destruction in time are reported by {@link DestructionException#getUnfinished()}
+     */
+    public Set<Object> destroyAll(int parallelism, Duration treeTimeout, Duration overallTimeout) {
+        checkActive();
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Unable to destroy using a parallelism < 1");
+        } else if (treeTimeout == null) {
+            throw new IllegalArgumentException("Unable to destroy using a null tree timeout");
+        } else if (overallTimeout == null) {
+            throw new IllegalArgumentException("Unable to destroy using a null overall timeout");
+        }
+
+        long deadline = System.nanoTime() + overallTimeout.toNanos();
+        List<DestructionTree> trees = new ArrayList<>();
+        for (Entry<Object, Map<Phase, List<SelfSustainingProcessor>>> entry : this.beans.drain()) {
+            trees.add(new DestructionTree(entry.getKey(), entry.getValue()));
+        }
+
+        Set<Object> unfinished = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (trees.isEmpty()) {
+            return unfinished;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, trees.size()), runnable -> {
+            Thread thread = new Thread(runnable, "hura-destruction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (DestructionTree tree : trees) {
+                tree.future = executor.submit(tree);
+            }
+
+            int failingTreeCount = 0;
+            ProcessorException failure = null;
+            for (DestructionTree tree : trees) {
+                if (!tree.await(deadline, treeTimeout.toNanos())) {
+                    unfinished.add(tree.bean);
+                } else if (tree.failure != null) {
+                    failingTreeCount++;
+                    failure = failure == null ? tree.failure : failure;
+                }
+            }
+
+            if (failingTreeCount > 0) {
+                throw new DestructionException("Unable to destroy all " + trees.size() + " sub trees; the destruction of "
+                        + failingTreeCount + " sub trees failed and " + unfinished.size()
+                        + " sub trees did not finish in time.", failure, unfinished);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return unfinished;
+    }
+
+    private final class DestructionTree implements Runnable {
+
+        private final Object bean;
+        private final Map<Phase, List<SelfSustainingProcessor>> destroyers;
+        private volatile long start;
+        private volatile ProcessorException failure;
+        private Future<?> future;
+
+        private DestructionTree(Object bean, Map<Phase, List<SelfSustainingProcessor>> destroyers) {
+            this.bean = bean;
+            this.destroyers = destroyers;
+        }
+
+        @Override
+        public void run() {
+            this.start = System.nanoTime();
+            try {
+                destroy(this.bean, this.destroyers.get(Phase.PRE_DESTROY), true);
+                destroy(this.bean, this.destroyers.get(Phase.POST_DESTROY), true);
+            } catch (ProcessorException e) {
+                this.failure = e;
+            }
+        }
+
+        /*
+         * Waits until the tree is destroyed, the overall deadline is reached or the tree has been in destruction for
+         * longer than the tree timeout; returns whether the tree was destroyed.
+         */
+        private boolean await(long deadline, long treeTimeout) {
+            while (true) {
+                long now = System.nanoTime();
+                long start = this.start;
+                long treeDeadline = start == 0 ? deadline : Math.min(deadline, start + treeTimeout);
+                if (treeDeadline - now <= 0) {
+                    return this.future.isDone();
+                }
+
+                try {
+                    // WHILE THE TREE HAS NOT STARTED, RE-CHECK REGULARLY TO APPLY THE TREE TIMEOUT AS SOON AS IT HAS
+                    this.future.get(start == 0 ? Math.min(treeDeadline - now, treeTimeout) : treeDeadline - now,
+                            TimeUnit.NANOSECONDS);
+                    return true;
+                } catch (TimeoutException e) {
+                    // Do nothing; re-check the deadlines
+                } catch (ExecutionException e) {
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return this.future.isDone();
+                }
+            }
+        }
+    }
+
     @Override
     public boolean isActive() {
         return this.state == InjectorState.ACTIVE;
@@ -942,4 +1620,119 @@ public class Injector implements ResolvingProvider, AggregationProvider, Injecti
             return injector;
         });
     }
+
+    /**
+     * Warms up all meta data caches for the given root types and all types they depend on.
+     * <p>
+     * Starting at the given types, the graph of types injected via @{@link Inject} and @{@link Plugin} into
+     * constructors and fields is walked transitively; the meta data of all of these types is retrieved in parallel
+     * on the common {@link ForkJoinPool}, so the first injections of the types do not have to do so on the requesting
+     * thread. No bean is instantiated in the process.
+     * <p>
+     * Warming up a type never fails; if a type's meta data is invalid, the failure is reported when the type is
+     * injected.
+     *
+     * @param types The root types to warm up; might be null or contain nulls.
+     * @return A {@link PreloadReport} about the warm up, never null
+     */
+    public static PreloadReport preload(Collection<Class<?>> types) {
+        long start = System.nanoTime();
+
+        Set<Class<?>> preloaded = ConcurrentHashMap.newKeySet();
+        List<PreloadTask> tasks = new ArrayList<>();
+        if (types != null) {
+            for (Class<?> type : types) {
+                if (type != null && preloaded.add(type)) {
+                    tasks.add(new PreloadTask(type, preloaded));
+                }
+            }
+        }
+        ForkJoinPool.commonPool().invoke(new RecursiveAction() {
+
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+
+        return new PreloadReport(preloaded.size(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Returns the current statistics of Hura's internal caches, meant for exporting them to metrics and sizing the
+     * caches.
+     * <p>
+     * The statistics cover the reflection caches holding the meta data of types (including those of plugins) and the
+     * cache of loaded plugins.
+     *
+     * @return A read-only {@link InjectionStatistics} snapshot, never null
+     */
+    public static InjectionStatistics getStatistics() {
+        return new InjectionStatistics(ReflectionCache.getStatistics(), PluginCache.getStatistics(),
+                PluginCache.getPluginReflectionCacheCount());
+    }
+
+    /**
+     * Loads a meta data snapshot written by {@link #saveSnapshot(File)}.
+     * <p>
+     * All types whose meta data has not been retrieved yet will use the snapshot's entries instead of being scanned
+     * reflectively. The snapshot entry of a type is only used as long as the type's class file has not changed since
+     * the snapshot was written; otherwise the type is scanned as usual.
+     * <p>
+     * A missing or invalid snapshot file is ignored, so it is safe to load a snapshot file on every start, even if it
+     * has not been written yet.
+     *
+     * @param file The snapshot file to load; might <b>not</b> be null.
+     * @return The count of type entries in the loaded snapshot, 0 if no snapshot could be loaded
+     */
+    public static int loadSnapshot(File file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Cannot load a snapshot from a null file.");
+        }
+        return InjectionSnapshot.load(file);
+    }
+
+    /**
+     * Writes a snapshot of the meta data of all types whose meta data has been retrieved so far, except those loaded
+     * from plugins.
+     * <p>
+     * The snapshot can be loaded on the next start using {@link #loadSnapshot(File)}; a good point in time to write it
+     * is after the application has started up or when it is shut down.
+     *
+     * @param file The snapshot file to write; might <b>not</b> be null.
+     * @return The count of type entries written to the snapshot
+     * @throws InjectionException If writing the snapshot fails
+     */
+    public static int saveSnapshot(File file) throws InjectionException {
+        if (file == null) {
+            throw new IllegalArgumentException("Cannot save a snapshot to a null file.");
+        }
+        return InjectionSnapshot.save(file, ReflectionCache.getIndexedTypes());
+    }
+
+    private static Set<Class<?>> preloadType(Class<?> type) {
+        Set<Class<?>> dependencies = new HashSet<>();
+        try {
+            BeanDescriptor<?> descriptor = ReflectionCache.getBeanDescriptor(type);
+            ReflectionCache.getSuperTypesAnnotatedWith(type, Context.class);
+
+            InjectableConstructor<?> constructor = descriptor.getConstructor();
+            for (int i = 0; i < constructor.getConstructor().getParameterCount(); i++) {
+                addDependency(dependencies, constructor.getInjectionSettings(i));
+            }
+            for (InjectableField field : descriptor.getInjectableFields()) {
+                addDependency(dependencies, field.getSettings());
+            }
+        } catch (RuntimeException e) {
+            // Do nothing; the type is not instantiable itself, or its meta data is invalid, which will
+            // be reported when it is injected.
+        }
+        return dependencies;
+    }
+
+    private static void addDependency(Set<Class<?>> dependencies, InjectionSettings<?> set) {
+        if (set != null && !set.type.isPrimitive() && !set.type.isArray()) {
+            dependencies.add(set.type);
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.mantledillusion.injection.hura.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable map of a context's entries, layered on top of the map of the context it has been derived from.
+ * <p>
+ * Deriving a map only stores the derived entries, so contexts adjusted at every injection point do not have to copy
+ * all entries of their base context. As lookups walk the layers, the layers are flattened into a single one once the
+ * chain of layers becomes deeper than {@link #MAX_DEPTH}.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+final class LayeredMap<K, V> {
+
+	private static final int MAX_DEPTH = 8;
+
+	private final LayeredMap<K, V> base;
+	private final Map<K, V> entries;
+	private final int depth;
+
+	LayeredMap() {
+		this(null, new HashMap<>(), 0);
+	}
+
+	private LayeredMap(LayeredMap<K, V> base, Map<K, V> entries, int depth) {
+		this.base = base;
+		this.entries = entries;
+		this.depth = depth;
+	}
+
+	boolean containsKey(K key) {
+		for (LayeredMap<K, V> layer = this; layer != null; layer = layer.base) {
+			if (layer.entries.containsKey(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	V get(K key) {
+		for (LayeredMap<K, V> layer = this; layer != null; layer = layer.base) {
+			V value = layer.entries.get(key);
+			if (value != null || layer.entries.containsKey(key)) {
+				return value;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Derives a map that contains the given entries in addition to, or instead of, the entries of this map.
+	 *
+	 * @param entries The entries to derive with; might <b>not</b> be null.
+	 * @return This map if there are no entries to derive with, a derived map otherwise, never null
+	 */
+	LayeredMap<K, V> with(Map<? extends K, ? extends V> entries) {
+		if (entries.isEmpty()) {
+			return this;
+		} else if (this.entries.isEmpty() && this.base == null) {
+			return new LayeredMap<>(null, new HashMap<>(entries), 0);
+		} else if (this.depth >= MAX_DEPTH) {
+			Map<K, V> flattened = new HashMap<>();
+			collect(flattened);
+			flattened.putAll(entries);
+			return new LayeredMap<>(null, flattened, 0);
+		} else {
+			return new LayeredMap<>(this, new HashMap<>(entries), this.depth + 1);
+		}
+	}
+
+	private void collect(Map<K, V> target) {
+		if (this.base != null) {
+			this.base.collect(target);
+		}
+		target.putAll(this.entries);
+	}
+}
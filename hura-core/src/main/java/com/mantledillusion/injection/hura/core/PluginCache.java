@@ -93,6 +93,11 @@ final class PluginCache {
 		}
 	}
 
+	// KEEP TRACK OF THE PLUGIN CLASS LOADERS FOR STATISTICS, WITHOUT PREVENTING THEM FROM BEING COLLECTED
+	private static final Set<PluginClassLoader> LIVE_CLASS_LOADERS = Collections.synchronizedSet(
+			Collections.newSetFromMap(new WeakHashMap<>()));
+	private static final CacheCounter PLUGINS = new CacheCounter("plugins");
+
 	private static final class PluggableCache extends HydnoraCache<PluginId, PluginClassLoader> {
 
 		private PluggableCache() {
@@ -102,6 +107,7 @@ final class PluginCache {
 
 		@SuppressWarnings("unchecked")
 		private <T> Class<T> retrieve(PluginId id, Class<? super T> spiType) {
+			PLUGINS.request();
 			return get(id, plugin -> {
 				if (!plugin.pluggables.containsKey(spiType)) {
 					throw new PluginException("The plugin '" + id + "' does not offer a pluggable implementing the SPI '"
@@ -121,7 +127,16 @@ final class PluginCache {
 		@Override
 		@SuppressWarnings("resource")
 		protected PluginClassLoader load(PluginId id) throws Exception {
-			PluginClassLoader pluginClassLoader = new PluginClassLoader(id);
+			return PLUGINS.load(() -> loadPlugin(id));
+		}
+
+		private PluginClassLoader loadPlugin(PluginId id) {
+			PluginClassLoader pluginClassLoader;
+			try {
+				pluginClassLoader = new PluginClassLoader(id);
+			} catch (MalformedURLException e) {
+				throw new PluginException("Unable to load plugin '" + id + "'", e);
+			}
 
 			try {
 				Enumeration<JarEntry> e = new JarFile(id.toFile()).entries();
@@ -171,6 +186,7 @@ final class PluginCache {
 					}
 				}
 				
+				LIVE_CLASS_LOADERS.add(pluginClassLoader);
 				return pluginClassLoader;
 			} catch (Exception e) {
 				boolean closedPluginClassloader = true;
@@ -230,4 +246,12 @@ final class PluginCache {
 		return CACHE.retrieve(foundPlugin, spiType);
 	}
 
+	static InjectionStatistics.CacheStatistics getStatistics() {
+		return PLUGINS.toStatistics(LIVE_CLASS_LOADERS.size());
+	}
+
+	static int getPluginReflectionCacheCount() {
+		return LIVE_CLASS_LOADERS.size();
+	}
+
 }
@@ -0,0 +1,93 @@
+package com.mantledillusion.injection.hura.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
+
+/**
+ * {@link BiPredicate} matching a singleton's qualifier against a compiled {@link Pattern}.
+ * <p>
+ * As {@link SingletonContext} recognizes the matcher, it can use the literal prefix of the pattern to only aggregate
+ * singletons whose qualifier starts with that prefix, instead of testing every singleton against the pattern.
+ *
+ * @param <T> The singleton's type
+ */
+final class QualifierMatcher<T> implements BiPredicate<String, T> {
+
+	private static final String META_CHARACTERS = "\\[](){}.*+?^$|";
+	private static final String QUANTIFIERS = "*+?{";
+
+	private final Pattern pattern;
+	private final String prefix;
+
+	QualifierMatcher(Pattern pattern) {
+		this.pattern = pattern;
+		this.prefix = getLiteralPrefix(pattern);
+	}
+
+	/**
+	 * Returns the prefix every qualifier matching this matcher starts with.
+	 *
+	 * @return The prefix, never null, might be empty if the pattern does not start with a literal
+	 */
+	String getPrefix() {
+		return this.prefix;
+	}
+
+	@Override
+	public boolean test(String qualifier, T bean) {
+		return this.pattern.matcher(qualifier).matches();
+	}
+
+	/**
+	 * Adds a {@link QualifierMatcher} for the given matcher to the given predicates.
+	 *
+	 * @param <T> The singleton's type
+	 * @param qualifierMatcher The {@link Pattern} the singleton's qualifier needs to match; might <b>not</b> be null.
+	 * @param predicates The predicates to add the matcher to; might be null or contain nulls.
+	 * @return A new {@link List} of the predicates and the matcher, never null
+	 */
+	static <T> List<BiPredicate<String, T>> addTo(String qualifierMatcher, Collection<BiPredicate<String, T>> predicates) {
+		if (qualifierMatcher == null) {
+			throw new IllegalArgumentException("Cannot match a singleton's qualifier against a null matcher");
+		}
+		List<BiPredicate<String, T>> matchers = predicates == null ? new ArrayList<>() : new ArrayList<>(predicates);
+		matchers.add(new QualifierMatcher<>(Pattern.compile(qualifierMatcher)));
+		return matchers;
+	}
+
+	/*
+	 * Collects the literal characters at the start of the pattern; stops at the first character that might not be
+	 * matched literally.
+	 */
+	private static String getLiteralPrefix(Pattern pattern) {
+		String regex = pattern.pattern();
+		if (pattern.flags() != 0 || regex.indexOf('|') >= 0) {
+			// FLAGS MIGHT MATCH OTHER THAN THE LITERAL CHARACTERS, ALTERNATIVES MIGHT NOT START WITH THE PREFIX AT ALL
+			return "";
+		}
+
+		StringBuilder prefix = new StringBuilder();
+		int index = regex.startsWith("^") ? 1 : 0;
+		while (index < regex.length()) {
+			char literal = regex.charAt(index);
+			int length = 1;
+			if (literal == '\\' && index + 1 < regex.length() && !Character.isLetterOrDigit(regex.charAt(index + 1))) {
+				literal = regex.charAt(index + 1);
+				length = 2;
+			} else if (META_CHARACTERS.indexOf(literal) >= 0) {
+				break;
+			}
+
+			// A QUANTIFIED CHARACTER MIGHT BE MISSING FROM THE QUALIFIER
+			if (index + length < regex.length() && QUANTIFIERS.indexOf(regex.charAt(index + length)) >= 0) {
+				break;
+			}
+			prefix.append(literal);
+			index += length;
+		}
+		return prefix.toString();
+	}
+}
@@ -1,7 +1,5 @@
 package com.mantledillusion.injection.hura.core;
 
-import com.mantledillusion.cache.hydnora.HydnoraCache;
-import com.mantledillusion.essentials.concurrency.locks.LockIdentifier;
 import com.mantledillusion.essentials.reflection.AnnotationEssentials;
 import com.mantledillusion.essentials.reflection.AnnotationEssentials.AnnotationOccurrence;
 import com.mantledillusion.essentials.reflection.ConstructorEssentials;
@@ -13,6 +11,7 @@ import com.mantledillusion.injection.hura.core.annotation.injection.Plugin;
 import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Adjust;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Optional;
 import com.mantledillusion.injection.hura.core.annotation.property.Matches;
 import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
@@ -20,47 +19,100 @@ import com.mantledillusion.injection.hura.core.exception.InjectionException;
 import com.mantledillusion.injection.hura.core.exception.ValidatorException;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 final class ReflectionCache {
 
-	private static final class TypeIdentifier<T> extends LockIdentifier {
+	/*
+	 * The caches are bound to the types they describe using ClassValues, so retrieving meta data does neither allocate
+	 * a key nor take a lock, and the meta data of a type lives exactly as long as the type itself.
+	 */
 
-		private final Class<T> type;
+	private static final CacheCounter CONSTRUCTORS = new CacheCounter("constructors");
+	private static final CacheCounter RESOLVABLE_FIELDS = new CacheCounter("resolvableFields");
+	private static final CacheCounter INJECTABLE_FIELDS = new CacheCounter("injectableFields");
+	private static final CacheCounter AGGREGATEABLE_FIELDS = new CacheCounter("aggregateableFields");
+	private static final CacheCounter ANNOTATED_TYPES = new CacheCounter("annotatedTypes");
+	private static final CacheCounter ANNOTATED_METHODS = new CacheCounter("annotatedMethods");
+	private static final CacheCounter ANNOTATED_ANNOTATIONS = new CacheCounter("annotatedAnnotations");
+	private static final CacheCounter TYPE_INDICES = new CacheCounter("typeIndices");
+	private static final CacheCounter BEAN_DESCRIPTORS = new CacheCounter("beanDescriptors");
 
-		public TypeIdentifier(Class<T> type) {
-			super(type);
-			this.type = type;
+	private static abstract class TypeValue<EntryType> extends ClassValue<EntryType> {
+
+		private final CacheCounter counter;
+
+		private TypeValue(CacheCounter counter) {
+			this.counter = counter;
 		}
-	}
 
-	private static final class AnnotatedTypeIdentifier extends LockIdentifier {
+		@Override
+		protected final EntryType computeValue(Class<?> type) {
+			return this.counter.load(() -> load(type));
+		}
 
-		private final Class<?> type;
-		private final Class<? extends Annotation> annotationType;
+		protected abstract EntryType load(Class<?> type);
 
-		public AnnotatedTypeIdentifier(Class<?> type, Class<? extends Annotation> annotationType) {
-			super(type, annotationType);
-			this.type = type;
-			this.annotationType = annotationType;
+		EntryType lookup(Class<?> type) {
+			this.counter.request();
+			return get(type);
 		}
 	}
 
-	private static abstract class NonWrappingCache<Identifier extends LockIdentifier, EntryType>
-			extends HydnoraCache<Identifier, EntryType> {
+	private static abstract class AnnotatedTypeValue<EntryType>
+			extends ClassValue<Map<Class<? extends Annotation>, EntryType>> {
+
+		private final CacheCounter counter;
+
+		private AnnotatedTypeValue(CacheCounter counter) {
+			this.counter = counter;
+		}
+
+		@Override
+		protected Map<Class<? extends Annotation>, EntryType> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+
+		protected abstract EntryType load(Class<?> type, Class<? extends Annotation> annotationType);
 
-		private NonWrappingCache() {
-			setWrapRuntimeExceptions(false);
+		EntryType retrieve(Class<?> type, Class<? extends Annotation> annotationType) {
+			this.counter.request();
+			Map<Class<? extends Annotation>, EntryType> entries = get(type);
+			EntryType entry = entries.get(annotationType);
+			if (entry == null) {
+				entry = this.counter.load(() -> load(type, annotationType));
+				EntryType existing = entries.putIfAbsent(annotationType, entry);
+				if (existing != null) {
+					entry = existing;
+				}
+			}
+			return entry;
 		}
 	}
-	
+
 	ReflectionCache() {}
 
 	// ###############################################################################################################
 	// ######################################### CONSTRUCTOR INJECTION ###############################################
 	// ###############################################################################################################
 
+	private interface Factory0 { Object create(); }
+	private interface Factory1 { Object create(Object p1); }
+	private interface Factory2 { Object create(Object p1, Object p2); }
+	private interface Factory3 { Object create(Object p1, Object p2, Object p3); }
+	private interface Factory4 { Object create(Object p1, Object p2, Object p3, Object p4); }
+	private interface Factory5 { Object create(Object p1, Object p2, Object p3, Object p4, Object p5); }
+
+	private static final Class<?>[] FACTORY_TYPES = { Factory0.class, Factory1.class, Factory2.class, Factory3.class,
+			Factory4.class, Factory5.class };
+
 	static final class InjectableConstructor<T> {
 
 		static enum ParamSettingType {
@@ -68,16 +120,83 @@ final class ReflectionCache {
 		}
 
 		private final Constructor<T> constructor;
+		private final Function<Object[], Object> factory;
+		private final Class<?>[] paramTypes;
+		private final Class<?>[] factoryParamTypes;
 		private final Map<Integer, ResolvingSettings<?>> resolvableParams;
 		private final Map<Integer, InjectionSettings<?>> injectableParams;
 
 		private InjectableConstructor(Constructor<T> constructor, Map<Integer, ResolvingSettings<?>> resolvableParams,
 				Map<Integer, InjectionSettings<?>> injectableParams) {
 			this.constructor = constructor;
+			this.factory = bind(constructor);
+			this.paramTypes = constructor.getParameterTypes();
+			this.factoryParamTypes = MethodType.methodType(void.class, this.paramTypes).wrap().parameterArray();
 			this.resolvableParams = resolvableParams;
 			this.injectableParams = injectableParams;
 		}
 
+		/*
+		 * Generates a factory calling the constructor directly once, so instantiating does not have to go through
+		 * Constructor.newInstance() for every bean; the factory can only be generated if the constructor and all of
+		 * its parameter types are public and visible to Hura. Otherwise, null is returned and instantiation falls back
+		 * to reflection.
+		 */
+		private static Function<Object[], Object> bind(Constructor<?> constructor) {
+			int paramCount = constructor.getParameterCount();
+			if (paramCount >= FACTORY_TYPES.length || !isPublicAndVisible(constructor.getDeclaringClass())
+					|| !Modifier.isPublic(constructor.getModifiers())) {
+				return null;
+			}
+			for (Class<?> paramType : constructor.getParameterTypes()) {
+				if (!isPublicAndVisible(paramType)) {
+					return null;
+				}
+			}
+
+			Object factory;
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				MethodHandle handle = lookup.unreflectConstructor(constructor);
+				// PRIMITIVE PARAMETERS ARE PASSED BOXED AND UNBOXED BY THE FACTORY
+				factory = LambdaMetafactory.metafactory(lookup, "create", MethodType.methodType(FACTORY_TYPES[paramCount]),
+						MethodType.genericMethodType(paramCount), handle, handle.type().wrap()).getTarget().invoke();
+			} catch (Throwable t) {
+				return null;
+			}
+
+			switch (paramCount) {
+				case 0:
+					return params -> ((Factory0) factory).create();
+				case 1:
+					return params -> ((Factory1) factory).create(params[0]);
+				case 2:
+					return params -> ((Factory2) factory).create(params[0], params[1]);
+				case 3:
+					return params -> ((Factory3) factory).create(params[0], params[1], params[2]);
+				case 4:
+					return params -> ((Factory4) factory).create(params[0], params[1], params[2], params[3]);
+				default:
+					return params -> ((Factory5) factory).create(params[0], params[1], params[2], params[3], params[4]);
+			}
+		}
+
+		private static boolean isPublicAndVisible(Class<?> type) {
+			while (type.isArray()) {
+				type = type.getComponentType();
+			}
+			if (type.isPrimitive()) {
+				return true;
+			} else if (!Modifier.isPublic(type.getModifiers())) {
+				return false;
+			}
+			try {
+				return Class.forName(type.getName(), false, ReflectionCache.class.getClassLoader()) == type;
+			} catch (ClassNotFoundException | LinkageError e) {
+				return false;
+			}
+		}
+
 		Constructor<T> getConstructor() {
 			return this.constructor;
 		}
@@ -100,21 +219,77 @@ final class ReflectionCache {
 			return this.injectableParams.get(i);
 		}
 
+		@SuppressWarnings("unchecked")
 		T instantiate(Object[] params) throws InstantiationException, IllegalAccessException, IllegalArgumentException,
 				InvocationTargetException {
-			return this.constructor.newInstance(params);
+			if (this.factory == null || !fitsFactory(params)) {
+				return this.constructor.newInstance(params);
+			}
+			try {
+				return (T) this.factory.apply(params);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
+
+		/*
+		 * Reflection rejects unfitting parameters before calling the constructor and widens primitives as required;
+		 * parameters the factory cannot take as they are are left to reflection, so everything the factory throws
+		 * stems from the constructor itself.
+		 */
+		private boolean fitsFactory(Object[] params) {
+			if (params.length != this.factoryParamTypes.length) {
+				return false;
+			}
+			for (int i = 0; i < params.length; i++) {
+				if (params[i] == null ? this.paramTypes[i].isPrimitive()
+						: !this.factoryParamTypes[i].isInstance(params[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * @return True if the constructor is called by a generated factory, false if it is called reflectively
+		 */
+		boolean isBound() {
+			return this.factory != null;
 		}
 	}
 
-	private static final class ConstructorCache extends NonWrappingCache<TypeIdentifier<?>, InjectableConstructor<?>> {
+	private static final class ConstructorCache extends TypeValue<InjectableConstructor<?>> {
+
+		private ConstructorCache() {
+			super(CONSTRUCTORS);
+		}
 
 		@Override
-		protected InjectableConstructor<?> load(TypeIdentifier<?> id) throws Exception {
-			Constructor<?> c = find(id.type);
+		protected InjectableConstructor<?> load(Class<?> type) {
+			Constructor<?> c = find(type);
 			return new InjectableConstructor<>(c, extractResolvingSettings(c), extractInjectionSettings(c));
 		}
 
 		private <T> Constructor<T> find(Class<T> type) {
+			Constructor<T> c = getTypeIndex(type).getConstructor();
+
+			if (c == null) {
+				c = scan(type);
+			}
+
+			if (!c.isAccessible()) {
+				try {
+					c.setAccessible(true);
+				} catch (SecurityException e) {
+					throw new InjectionException("Unable to make constructor " + c.toString() + " of type "
+							+ type.getSimpleName() + " accessible.", e);
+				}
+			}
+
+			return c;
+		}
+
+		private <T> Constructor<T> scan(Class<T> type) {
 			Constructor<T> c = null;
 
 			try {
@@ -165,19 +340,10 @@ final class ReflectionCache {
 						"Unable to retrieve constructor to instantiate " + type.getSimpleName() + " for injection.", e);
 			}
 
-			if (!c.isAccessible()) {
-				try {
-					c.setAccessible(true);
-				} catch (SecurityException e) {
-					throw new InjectionException("Unable to make constructor " + c.toString() + " of type "
-							+ type.getSimpleName() + " accessible.", e);
-				}
-			}
-
 			return c;
 		}
 
-		private Map<Integer, ResolvingSettings<?>> extractResolvingSettings(Constructor<?> c) throws Exception {
+		private Map<Integer, ResolvingSettings<?>> extractResolvingSettings(Constructor<?> c) {
 			Map<Integer, ResolvingSettings<?>> settings = new HashMap<>();
 			Parameter[] parameters = c.getParameters();
 			for (int i = 0; i < c.getParameterCount(); i++) {
@@ -188,7 +354,7 @@ final class ReflectionCache {
 			return settings;
 		}
 
-		private Map<Integer, InjectionSettings<?>> extractInjectionSettings(Constructor<?> c) throws Exception {
+		private Map<Integer, InjectionSettings<?>> extractInjectionSettings(Constructor<?> c) {
 			Map<Integer, InjectionSettings<?>> settings = new HashMap<>();
 			Parameter[] parameters = c.getParameters();
 			for (int i = 0; i < c.getParameterCount(); i++) {
@@ -200,15 +366,55 @@ final class ReflectionCache {
 		}
 
 		@SuppressWarnings("unchecked")
-		private <T> InjectableConstructor<T> retrieve(TypeIdentifier<T> id) {
-			return (InjectableConstructor<T>) get(id);
+		private <T> InjectableConstructor<T> retrieve(Class<T> type) {
+			return (InjectableConstructor<T>) lookup(type);
 		}
 	}
 
 	private final ConstructorCache constructorCache = new ConstructorCache();
 
 	static <T> InjectableConstructor<T> getInjectableConstructor(Class<T> type) {
-		return determineCacheFor(type).constructorCache.retrieve(new TypeIdentifier<>(type));
+		return determineCacheFor(type).constructorCache.retrieve(type);
+	}
+
+	// ###############################################################################################################
+	// ############################################## FIELD WRITING ##################################################
+	// ###############################################################################################################
+
+	private interface PropertyWriter {
+
+		void write(Object instance, ResolvingContext context) throws IllegalAccessException;
+	}
+
+	/*
+	 * Binds a (Object,Object)void setter handle to the field once; if the field cannot be bound, null is returned and
+	 * the field is written using reflection.
+	 */
+	private static MethodHandle bindSetter(Field field) {
+		try {
+			return MethodHandles.lookup().unreflectSetter(field)
+					.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		} catch (IllegalAccessException | SecurityException e) {
+			return null;
+		}
+	}
+
+	private static void setField(Field field, MethodHandle setter, Object instance, Object value)
+			throws IllegalAccessException {
+		if (setter == null) {
+			field.set(instance, value);
+			return;
+		}
+		try {
+			setter.invokeExact(instance, value);
+		} catch (ClassCastException | NullPointerException e) {
+			throw new IllegalArgumentException("Cannot set " + (value == null ? null : value.getClass().getName())
+					+ " to field " + field, e);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);
+		}
 	}
 
 	// ###############################################################################################################
@@ -219,10 +425,40 @@ final class ReflectionCache {
 
 		private final Field field;
 		private final ResolvingSettings<?> settings;
+		private final PropertyWriter writer;
 
 		private ResolvableField(Field field, ResolvingSettings<?> settings) {
 			this.field = field;
 			this.settings = settings;
+			this.writer = bindWriter(field, settings);
+		}
+
+		/*
+		 * Primitive fields are resolved and written using the primitive converters and setters, so the resolved
+		 * value is never boxed.
+		 */
+		private static PropertyWriter bindWriter(Field field, ResolvingSettings<?> settings) {
+			Class<?> type = field.getType();
+			if (type == boolean.class) {
+				return (instance, context) -> field.setBoolean(instance, context.resolveBoolean(settings));
+			} else if (type == char.class) {
+				return (instance, context) -> field.setChar(instance, context.resolveChar(settings));
+			} else if (type == byte.class) {
+				return (instance, context) -> field.setByte(instance, context.resolveByte(settings));
+			} else if (type == short.class) {
+				return (instance, context) -> field.setShort(instance, context.resolveShort(settings));
+			} else if (type == int.class) {
+				return (instance, context) -> field.setInt(instance, context.resolveInt(settings));
+			} else if (type == long.class) {
+				return (instance, context) -> field.setLong(instance, context.resolveLong(settings));
+			} else if (type == float.class) {
+				return (instance, context) -> field.setFloat(instance, context.resolveFloat(settings));
+			} else if (type == double.class) {
+				return (instance, context) -> field.setDouble(instance, context.resolveDouble(settings));
+			} else {
+				MethodHandle setter = bindSetter(field);
+				return (instance, context) -> setField(field, setter, instance, context.resolve(settings));
+			}
 		}
 
 		Field getField() {
@@ -232,24 +468,33 @@ final class ReflectionCache {
 		ResolvingSettings<?> getSettings() {
 			return settings;
 		}
+
+		void resolve(Object instance, ResolvingContext context) throws IllegalAccessException {
+			this.writer.write(instance, context);
+		}
 	}
 
-	private static final class ResolvableFieldCache extends NonWrappingCache<TypeIdentifier<?>, List<ResolvableField>> {
+	private static final class ResolvableFieldCache extends TypeValue<List<ResolvableField>> {
+
+		private ResolvableFieldCache() {
+			super(RESOLVABLE_FIELDS);
+		}
 
 		@Override
-		protected List<ResolvableField> load(TypeIdentifier<?> id) throws Exception {
-			return find(id.type);
+		protected List<ResolvableField> load(Class<?> type) {
+			return find(type);
 		}
 
 		private <T> List<ResolvableField> find(Class<T> type) {
 			List<ResolvableField> fields = new ArrayList<>();
 			Class<? super T> superType = type.getSuperclass();
 			while (superType != null && superType != Object.class) {
-				fields.addAll(get(new TypeIdentifier<>(superType)));
+				fields.addAll(lookup(superType));
 				superType = superType.getSuperclass();
 			}
 
-			for (Field field : type.getDeclaredFields()) {
+			List<Field> indexedFields = getTypeIndex(type).getResolvableFields();
+			for (Field field : indexedFields != null ? indexedFields : Arrays.asList(type.getDeclaredFields())) {
 				if (InjectionUtils.isResolvable(field)) {
 					if (!field.isAccessible()) {
 						try {
@@ -269,15 +514,12 @@ final class ReflectionCache {
 			return fields;
 		}
 
-		private List<ResolvableField> retrieve(TypeIdentifier<?> id) {
-			return get(id);
-		}
 	}
 
 	private final ResolvableFieldCache resolvableFieldCache = new ResolvableFieldCache();
 
 	static <T> List<ResolvableField> getResolvableFields(Class<T> type) {
-		return determineCacheFor(type).resolvableFieldCache.retrieve(new TypeIdentifier<>(type));
+		return determineCacheFor(type).resolvableFieldCache.lookup(type);
 	}
 
 	// ###############################################################################################################
@@ -287,10 +529,12 @@ final class ReflectionCache {
 	static final class InjectableField {
 
 		private final Field field;
+		private final MethodHandle setter;
 		private final InjectionSettings<?> settings;
 
 		private InjectableField(Field field, InjectionSettings<?> settings) {
 			this.field = field;
+			this.setter = bindSetter(field);
 			this.settings = settings;
 		}
 
@@ -301,24 +545,33 @@ final class ReflectionCache {
 		InjectionSettings<?> getSettings() {
 			return settings;
 		}
+
+		void set(Object instance, Object value) throws IllegalAccessException {
+			setField(this.field, this.setter, instance, value);
+		}
 	}
 
-	private static final class InjectableFieldCache extends NonWrappingCache<TypeIdentifier<?>, List<InjectableField>> {
+	private static final class InjectableFieldCache extends TypeValue<List<InjectableField>> {
+
+		private InjectableFieldCache() {
+			super(INJECTABLE_FIELDS);
+		}
 
 		@Override
-		protected List<InjectableField> load(TypeIdentifier<?> id) throws Exception {
-			return find(id.type);
+		protected List<InjectableField> load(Class<?> type) {
+			return find(type);
 		}
 
 		private <T> List<InjectableField> find(Class<T> type) {
 			List<InjectableField> fields = new ArrayList<>();
 			Class<? super T> superType = type.getSuperclass();
 			while (superType != null && superType != Object.class) {
-				fields.addAll(get(new TypeIdentifier<>(superType)));
+				fields.addAll(lookup(superType));
 				superType = superType.getSuperclass();
 			}
 
-			for (Field field : type.getDeclaredFields()) {
+			List<Field> indexedFields = getTypeIndex(type).getInjectableFields();
+			for (Field field : indexedFields != null ? indexedFields : Arrays.asList(type.getDeclaredFields())) {
 				if (InjectionUtils.isInjectable(field)) {
 					if (!field.isAccessible()) {
 						try {
@@ -338,15 +591,12 @@ final class ReflectionCache {
 			return fields;
 		}
 
-		private List<InjectableField> retrieve(TypeIdentifier<?> id) {
-			return get(id);
-		}
 	}
 
 	private final InjectableFieldCache injectableFieldCache = new InjectableFieldCache();
 
 	static <T> List<InjectableField> getInjectableFields(Class<T> type) {
-		return determineCacheFor(type).injectableFieldCache.retrieve(new TypeIdentifier<>(type));
+		return determineCacheFor(type).injectableFieldCache.lookup(type);
 	}
 
 	// ###############################################################################################################
@@ -356,10 +606,12 @@ final class ReflectionCache {
 	static final class AggregateableField {
 
 		private final Field field;
+		private final MethodHandle setter;
 		private final AggregationSettings<?> settings;
 
 		private AggregateableField(Field field, AggregationSettings<?> settings) {
 			this.field = field;
+			this.setter = bindSetter(field);
 			this.settings = settings;
 		}
 
@@ -370,24 +622,33 @@ final class ReflectionCache {
 		AggregationSettings<?> getSettings() {
 			return settings;
 		}
+
+		void set(Object instance, Object value) throws IllegalAccessException {
+			setField(this.field, this.setter, instance, value);
+		}
 	}
 
-	private static final class AggregateableFieldCache extends NonWrappingCache<TypeIdentifier<?>, List<AggregateableField>> {
+	private static final class AggregateableFieldCache extends TypeValue<List<AggregateableField>> {
+
+		private AggregateableFieldCache() {
+			super(AGGREGATEABLE_FIELDS);
+		}
 
 		@Override
-		protected List<AggregateableField> load(TypeIdentifier<?> id) throws Exception {
-			return find(id.type);
+		protected List<AggregateableField> load(Class<?> type) {
+			return find(type);
 		}
 
 		private <T> List<AggregateableField> find(Class<T> type) {
 			List<AggregateableField> fields = new ArrayList<>();
 			Class<? super T> superType = type.getSuperclass();
 			while (superType != null && superType != Object.class) {
-				fields.addAll(get(new TypeIdentifier<>(superType)));
+				fields.addAll(lookup(superType));
 				superType = superType.getSuperclass();
 			}
 
-			for (Field field : type.getDeclaredFields()) {
+			List<Field> indexedFields = getTypeIndex(type).getAggregateableFields();
+			for (Field field : indexedFields != null ? indexedFields : Arrays.asList(type.getDeclaredFields())) {
 				if (InjectionUtils.isAggregateable(field)) {
 					if (!field.isAccessible()) {
 						try {
@@ -407,48 +668,53 @@ final class ReflectionCache {
 			return fields;
 		}
 
-		private List<AggregateableField> retrieve(TypeIdentifier<?> id) {
-			return get(id);
-		}
 	}
 
 	private final AggregateableFieldCache aggregateableFieldCache = new AggregateableFieldCache();
 
 	static <T> List<AggregateableField> getAggregateableFields(Class<T> type) {
-		return determineCacheFor(type).aggregateableFieldCache.retrieve(new TypeIdentifier<>(type));
+		return determineCacheFor(type).aggregateableFieldCache.lookup(type);
 	}
 
 	// ###############################################################################################################
 	// ############################################# ANNOTATED TYPE ##################################################
 	// ###############################################################################################################
 
-	private static final class AnnotatedTypeCache extends NonWrappingCache<AnnotatedTypeIdentifier, List<Class<?>>> {
+	private static final class AnnotatedTypeCache extends AnnotatedTypeValue<List<Class<?>>> {
 
-		@Override
-		protected List<Class<?>> load(AnnotatedTypeIdentifier id) throws Exception {
-			return TypeEssentials.getSuperClassesAnnotatedWith(id.type, id.annotationType);
+		private AnnotatedTypeCache() {
+			super(ANNOTATED_TYPES);
 		}
 
-		private List<Class<?>> retrieve(AnnotatedTypeIdentifier id) {
-			return get(id);
+		@Override
+		protected List<Class<?>> load(Class<?> type, Class<? extends Annotation> annotationType) {
+			return TypeEssentials.getSuperClassesAnnotatedWith(type, annotationType);
 		}
+
 	}
 
 	private final AnnotatedTypeCache annotatedTypeCache = new AnnotatedTypeCache();
 
 	static List<Class<?>> getSuperTypesAnnotatedWith(Class<?> type, Class<? extends Annotation> annotationType) {
-		return determineCacheFor(type).annotatedTypeCache.retrieve(new AnnotatedTypeIdentifier(type, annotationType));
+		return determineCacheFor(type).annotatedTypeCache.retrieve(type, annotationType);
 	}
 
 	// ###############################################################################################################
 	// ############################################ ANNOTATED METHOD #################################################
 	// ###############################################################################################################
 
-	private static final class AnnotatedMethodCache extends NonWrappingCache<AnnotatedTypeIdentifier, List<Method>> {
+	private static final class AnnotatedMethodCache extends AnnotatedTypeValue<List<Method>> {
+
+		private AnnotatedMethodCache() {
+			super(ANNOTATED_METHODS);
+		}
 
 		@Override
-		protected List<Method> load(AnnotatedTypeIdentifier id) throws Exception {
-			List<Method> methods = MethodEssentials.getDeclaredMethodsAnnotatedWith(id.type, id.annotationType);
+		protected List<Method> load(Class<?> type, Class<? extends Annotation> annotationType) {
+			List<Method> methods = findIndexed(type, annotationType);
+			if (methods == null) {
+				methods = MethodEssentials.getDeclaredMethodsAnnotatedWith(type, annotationType);
+			}
 			methods.stream().filter(m -> !m.isAccessible()).forEach(m -> {
 				try {
 					m.setAccessible(true);
@@ -460,15 +726,47 @@ final class ReflectionCache {
 			return methods;
 		}
 
-		private List<Method> retrieve(AnnotatedTypeIdentifier id) {
-			return get(id);
+		private List<Method> findIndexed(Class<?> type, Class<? extends Annotation> annotationType) {
+			Set<Class<?>> hierarchy = new LinkedHashSet<>();
+			for (Class<?> superType = type; superType != null && superType != Object.class; superType = superType.getSuperclass()) {
+				hierarchy.add(superType);
+			}
+			for (Class<?> superType : new ArrayList<>(hierarchy)) {
+				addInterfaces(superType, hierarchy);
+			}
+
+			boolean isIndexed = false;
+			List<Method> methods = new ArrayList<>();
+			for (Class<?> superType : hierarchy) {
+				// TYPES OF THE BOOTSTRAP CLASS LOADER CANNOT CARRY INJECTION ANNOTATIONS
+				if (superType.getClassLoader() != null) {
+					List<Method> indexed = getTypeIndex(superType).getMethods(annotationType);
+					isIndexed |= indexed != null;
+					// TYPES WITHOUT A USABLE ENTRY, SUCH AS LIBRARY BASE TYPES, ARE SCANNED ON THEIR OWN
+					for (Method m : indexed != null ? indexed : Arrays.asList(superType.getDeclaredMethods())) {
+						if (m.isAnnotationPresent(annotationType)) {
+							methods.add(m);
+						}
+					}
+				}
+			}
+			return isIndexed ? methods : null;
 		}
+
+		private void addInterfaces(Class<?> type, Set<Class<?>> hierarchy) {
+			for (Class<?> interfaceType : type.getInterfaces()) {
+				if (hierarchy.add(interfaceType)) {
+					addInterfaces(interfaceType, hierarchy);
+				}
+			}
+		}
+
 	}
 
 	private final AnnotatedMethodCache annotatedMethodCache = new AnnotatedMethodCache();
 
 	static List<Method> getMethodsAnnotatedWith(Class<?> type, Class<? extends Annotation> annotationType) {
-		return determineCacheFor(type).annotatedMethodCache.retrieve(new AnnotatedTypeIdentifier(type, annotationType));
+		return determineCacheFor(type).annotatedMethodCache.retrieve(type, annotationType);
 	}
 
 	// ###############################################################################################################
@@ -476,23 +774,91 @@ final class ReflectionCache {
 	// ###############################################################################################################
 
 	private static final class AnnotatedAnnotationCache
-			extends NonWrappingCache<AnnotatedTypeIdentifier, List<AnnotationOccurrence>> {
+			extends AnnotatedTypeValue<List<AnnotationOccurrence>> {
 
-		@Override
-		protected List<AnnotationOccurrence> load(AnnotatedTypeIdentifier id) throws Exception {
-			return AnnotationEssentials.getAnnotationsAnnotatedWith(id.type, id.annotationType);
+		private AnnotatedAnnotationCache() {
+			super(ANNOTATED_ANNOTATIONS);
 		}
 
-		private List<AnnotationOccurrence> retrieve(AnnotatedTypeIdentifier id) {
-			return get(id);
+		@Override
+		protected List<AnnotationOccurrence> load(Class<?> type, Class<? extends Annotation> annotationType) {
+			return AnnotationEssentials.getAnnotationsAnnotatedWith(type, annotationType);
 		}
+
 	}
 
 	private final AnnotatedAnnotationCache annotatedAnnotationCache = new AnnotatedAnnotationCache();
 
 	static List<AnnotationOccurrence> getAnnotationsAnnotatedWith(Class<?> type,
 			Class<? extends Annotation> annotationType) {
-		return determineCacheFor(type).annotatedAnnotationCache.retrieve(new AnnotatedTypeIdentifier(type, annotationType));
+		return determineCacheFor(type).annotatedAnnotationCache.retrieve(type, annotationType);
+	}
+
+	// ###############################################################################################################
+	// ############################################## TYPE INDEX #####################################################
+	// ###############################################################################################################
+
+	private static final class TypeIndexCache extends TypeValue<InjectionIndex.TypeIndex> {
+
+		// KEEP TRACK OF THE INDEXED TYPES TO BE ABLE TO SNAPSHOT THEM, WITHOUT PREVENTING THEM FROM BEING UNLOADED
+		private final Set<Class<?>> indexedTypes = Collections.synchronizedSet(
+				Collections.newSetFromMap(new WeakHashMap<>()));
+
+		private TypeIndexCache() {
+			super(TYPE_INDICES);
+		}
+
+		@Override
+		protected InjectionIndex.TypeIndex load(Class<?> type) {
+			this.indexedTypes.add(type);
+			return InjectionIndex.of(type);
+		}
+
+		private List<Class<?>> getIndexedTypes() {
+			synchronized (this.indexedTypes) {
+				return new ArrayList<>(this.indexedTypes);
+			}
+		}
+	}
+
+	private final TypeIndexCache typeIndexCache = new TypeIndexCache();
+
+	private static InjectionIndex.TypeIndex getTypeIndex(Class<?> type) {
+		return determineCacheFor(type).typeIndexCache.lookup(type);
+	}
+
+	/**
+	 * @return All types outside of plugins whose meta data has been retrieved so far, never null
+	 */
+	static List<Class<?>> getIndexedTypes() {
+		return DEFAULT.typeIndexCache.getIndexedTypes();
+	}
+
+	// ###############################################################################################################
+	// ############################################ BEAN DESCRIPTOR ##################################################
+	// ###############################################################################################################
+
+	private static final class BeanDescriptorCache extends TypeValue<BeanDescriptor<?>> {
+
+		private BeanDescriptorCache() {
+			super(BEAN_DESCRIPTORS);
+		}
+
+		@Override
+		protected BeanDescriptor<?> load(Class<?> type) {
+			return BeanDescriptor.of(type);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> BeanDescriptor<T> retrieve(Class<T> type) {
+			return (BeanDescriptor<T>) lookup(type);
+		}
+	}
+
+	private final BeanDescriptorCache beanDescriptorCache = new BeanDescriptorCache();
+
+	static <T> BeanDescriptor<T> getBeanDescriptor(Class<T> type) {
+		return determineCacheFor(type).beanDescriptorCache.retrieve(type);
 	}
 
 	// ###############################################################################################################
@@ -501,6 +867,16 @@ final class ReflectionCache {
 
 	private static ReflectionCache DEFAULT = new ReflectionCache();
 
+	/**
+	 * @return The statistics of all reflection caches, including those of plugins, never null
+	 */
+	static List<InjectionStatistics.CacheStatistics> getStatistics() {
+		return Collections.unmodifiableList(Arrays.asList(CONSTRUCTORS.toStatistics(), RESOLVABLE_FIELDS.toStatistics(),
+				INJECTABLE_FIELDS.toStatistics(), AGGREGATEABLE_FIELDS.toStatistics(), ANNOTATED_TYPES.toStatistics(),
+				ANNOTATED_METHODS.toStatistics(), ANNOTATED_ANNOTATIONS.toStatistics(), TYPE_INDICES.toStatistics(),
+				BEAN_DESCRIPTORS.toStatistics()));
+	}
+
 	private static ReflectionCache determineCacheFor(Class<?> type) {
 		if (type.getClassLoader() instanceof PluginCache.PluginClassLoader) {
 			return ((PluginCache.PluginClassLoader) type.getClassLoader()).getPluginReflectionCache();
@@ -517,7 +893,8 @@ final class ReflectionCache {
 	private static <T> InjectionSettings<T> retrieveInjectionSettings(Class<T> type, AnnotatedElement e) {
 		if (e.isAnnotationPresent(Inject.class)) {
 			return InjectionSettings.of(type, e.getAnnotation(Inject.class), e.getAnnotation(Qualifier.class),
-					e.getAnnotation(com.mantledillusion.injection.hura.core.annotation.instruction.Optional.class), e.getAnnotation(Adjust.class));
+					e.getAnnotation(com.mantledillusion.injection.hura.core.annotation.instruction.Optional.class),
+					e.getAnnotation(Lazy.class), e.getAnnotation(Adjust.class));
 		} else {
 			return InjectionSettings.of(type, e.getAnnotation(Plugin.class),
 					e.getAnnotation(com.mantledillusion.injection.hura.core.annotation.instruction.Optional.class), e.getAnnotation(Adjust.class));
@@ -16,6 +16,7 @@ import java.text.DecimalFormat;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -25,11 +26,7 @@ final class ResolvingContext {
 
 		@Override
 		public Boolean toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Boolean.parseBoolean(source);
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Boolean", e);
-			}
+			return parseBoolean(source);
 		}
 	}
 
@@ -37,11 +34,7 @@ final class ResolvingContext {
 
 		@Override
 		public Character toTarget(String source, ProcessingDelegate context) throws Exception {
-			if (source.length() != 1) {
-				throw new ConversionException("Cannot extract the single Character out of the String '" + source +
-						"' which is not exactly 1 character long.");
-			}
-			return source.charAt(0);
+			return parseChar(source);
 		}
 	}
 
@@ -49,12 +42,7 @@ final class ResolvingContext {
 
 		@Override
 		public Byte toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Byte.parseByte(source, Integer.parseInt(context.get(HintType.BYTE_RADIX.name(),
-						HintType.BYTE_RADIX.getDefault())));
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Byte", e);
-			}
+			return parseByte(source, context.get(HintType.BYTE_RADIX.name(), HintType.BYTE_RADIX.getDefault()));
 		}
 	}
 
@@ -62,12 +50,7 @@ final class ResolvingContext {
 
 		@Override
 		public Short toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Short.parseShort(source, Integer.parseInt(context.get(HintType.SHORT_RADIX.name(),
-						HintType.SHORT_RADIX.getDefault())));
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Short", e);
-			}
+			return parseShort(source, context.get(HintType.SHORT_RADIX.name(), HintType.SHORT_RADIX.getDefault()));
 		}
 	}
 
@@ -75,15 +58,8 @@ final class ResolvingContext {
 
 		@Override
 		public Integer toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Boolean.parseBoolean(context.get(HintType.INTEGER_UNSIGNED.name(), HintType.INTEGER_UNSIGNED.getDefault())) ?
-						Integer.parseUnsignedInt(source, Integer.parseInt(context.get(HintType.INTEGER_RADIX.name(),
-								HintType.INTEGER_RADIX.getDefault()))) :
-						Integer.parseInt(source, Integer.parseInt(context.get(HintType.INTEGER_RADIX.name(),
-								HintType.INTEGER_RADIX.getDefault())));
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Integer", e);
-			}
+			return parseInt(source, context.get(HintType.INTEGER_UNSIGNED.name(), HintType.INTEGER_UNSIGNED.getDefault()),
+					context.get(HintType.INTEGER_RADIX.name(), HintType.INTEGER_RADIX.getDefault()));
 		}
 	}
 
@@ -91,15 +67,8 @@ final class ResolvingContext {
 
 		@Override
 		public Long toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Boolean.parseBoolean(context.get(HintType.LONG_UNSIGNED.name(), HintType.LONG_UNSIGNED.getDefault())) ?
-						Long.parseUnsignedLong(source, Integer.parseInt(context.get(HintType.LONG_RADIX.name(),
-								HintType.LONG_RADIX.getDefault()))) :
-						Long.parseLong(source, Integer.parseInt(context.get(HintType.LONG_RADIX.name(),
-								HintType.LONG_RADIX.getDefault())));
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Long", e);
-			}
+			return parseLong(source, context.get(HintType.LONG_UNSIGNED.name(), HintType.LONG_UNSIGNED.getDefault()),
+					context.get(HintType.LONG_RADIX.name(), HintType.LONG_RADIX.getDefault()));
 		}
 	}
 
@@ -107,11 +76,7 @@ final class ResolvingContext {
 
 		@Override
 		public Float toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Float.parseFloat(source);
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Float", e);
-			}
+			return parseFloat(source);
 		}
 	}
 
@@ -119,11 +84,75 @@ final class ResolvingContext {
 
 		@Override
 		public Double toTarget(String source, ProcessingDelegate context) throws Exception {
-			try {
-				return Double.parseDouble(source);
-			} catch (Exception e) {
-				throw new ConversionException("Cannot convert property to Double", e);
-			}
+			return parseDouble(source);
+		}
+	}
+
+	private static boolean parseBoolean(String source) {
+		try {
+			return Boolean.parseBoolean(source);
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Boolean", e);
+		}
+	}
+
+	private static char parseChar(String source) {
+		if (source.length() != 1) {
+			throw new ConversionException("Cannot extract the single Character out of the String '" + source +
+					"' which is not exactly 1 character long.");
+		}
+		return source.charAt(0);
+	}
+
+	private static byte parseByte(String source, String radix) {
+		try {
+			return Byte.parseByte(source, Integer.parseInt(radix));
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Byte", e);
+		}
+	}
+
+	private static short parseShort(String source, String radix) {
+		try {
+			return Short.parseShort(source, Integer.parseInt(radix));
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Short", e);
+		}
+	}
+
+	private static int parseInt(String source, String unsigned, String radix) {
+		try {
+			return Boolean.parseBoolean(unsigned) ?
+					Integer.parseUnsignedInt(source, Integer.parseInt(radix)) :
+					Integer.parseInt(source, Integer.parseInt(radix));
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Integer", e);
+		}
+	}
+
+	private static long parseLong(String source, String unsigned, String radix) {
+		try {
+			return Boolean.parseBoolean(unsigned) ?
+					Long.parseUnsignedLong(source, Integer.parseInt(radix)) :
+					Long.parseLong(source, Integer.parseInt(radix));
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Long", e);
+		}
+	}
+
+	private static float parseFloat(String source) {
+		try {
+			return Float.parseFloat(source);
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Float", e);
+		}
+	}
+
+	private static double parseDouble(String source) {
+		try {
+			return Double.parseDouble(source);
+		} catch (Exception e) {
+			throw new ConversionException("Cannot convert property to Double", e);
 		}
 	}
 
@@ -278,16 +307,19 @@ final class ResolvingContext {
 					new InstantConverter(), new PeriodConverter(), new DurationConverter()
 	)));
 	
+	private static final Map<String, Pattern> PATTERNS = new ConcurrentHashMap<>();
+
 	static final String RESOLVING_CONTEXT_SINGLETON_ID = "_resolvingContext";
 
-	private final Map<String, String> properties = new HashMap<>();
+	private final LayeredMap<String, String> properties;
 	
 	@Construct
 	ResolvingContext() {
+		this(new LayeredMap<>());
 	}
 	
-	private ResolvingContext(ResolvingContext base) {
-		this.properties.putAll(base.properties);
+	private ResolvingContext(LayeredMap<String, String> properties) {
+		this.properties = properties;
 	}
 	
 	boolean hasProperty(String propertyKey) {
@@ -299,36 +331,85 @@ final class ResolvingContext {
 	}
 	
 	ResolvingContext merge(Map<String, String> propertyAllocations) {
-		ResolvingContext newContext = new ResolvingContext(this);
-		newContext.properties.putAll(propertyAllocations);
-		return newContext;
+		if (propertyAllocations.isEmpty()) {
+			return this;
+		}
+		return new ResolvingContext(this.properties.with(propertyAllocations));
 	}
 
 	<T> T resolve(ResolvingSettings<T> set) {
+		String resolved = resolveValue(set);
+
+		ProcessingContext context = ProcessingContext.of();
+		set.hints.forEach((type, value) -> context.set(type.name(), value));
+		try {
+			return CONVERTER.process(resolved, set.targetType, context);
+		} catch (NoProcessorException e) {
+			throw new ConversionException("The resolved value '" + resolved + "' of '" + set.resolvableValue
+					+ "' is not convertible into the target type '" + set.targetType +
+					"'; converting into this target type is not supported.", e);
+		}
+	}
+
+	/*
+	 * The following methods resolve directly into primitives, so resolving into a primitive field does not have to
+	 * box the value.
+	 */
+
+	boolean resolveBoolean(ResolvingSettings<?> set) {
+		return parseBoolean(resolveValue(set));
+	}
+
+	char resolveChar(ResolvingSettings<?> set) {
+		return parseChar(resolveValue(set));
+	}
+
+	byte resolveByte(ResolvingSettings<?> set) {
+		return parseByte(resolveValue(set), getHint(set, HintType.BYTE_RADIX));
+	}
+
+	short resolveShort(ResolvingSettings<?> set) {
+		return parseShort(resolveValue(set), getHint(set, HintType.SHORT_RADIX));
+	}
+
+	int resolveInt(ResolvingSettings<?> set) {
+		return parseInt(resolveValue(set), getHint(set, HintType.INTEGER_UNSIGNED), getHint(set, HintType.INTEGER_RADIX));
+	}
+
+	long resolveLong(ResolvingSettings<?> set) {
+		return parseLong(resolveValue(set), getHint(set, HintType.LONG_UNSIGNED), getHint(set, HintType.LONG_RADIX));
+	}
+
+	float resolveFloat(ResolvingSettings<?> set) {
+		return parseFloat(resolveValue(set));
+	}
+
+	double resolveDouble(ResolvingSettings<?> set) {
+		return parseDouble(resolveValue(set));
+	}
+
+	private static String getHint(ResolvingSettings<?> set, HintType type) {
+		return set.hints.getOrDefault(type, type.getDefault());
+	}
+
+	private String resolveValue(ResolvingSettings<?> set) {
 		String resolved = deepReplace(set);
 
 		String matcher = deepReplace(ResolvingSettings.of(set.matcher));
+		Pattern pattern;
 		try {
-			Pattern.compile(matcher);
+			pattern = PATTERNS.computeIfAbsent(matcher, Pattern::compile);
 		} catch (PatternSyntaxException | NullPointerException e) {
 			throw new ValidatorException("The matcher '" + matcher + "' (resolved from '" + set.matcher
 					+ "') is no valid pattern.", e);
 		}
 
-		if (!resolved.matches(matcher)) {
+		if (!pattern.matcher(resolved).matches()) {
 			throw new ResolvingException("The resolved value '" + resolved + "' of '" + set.resolvableValue
 					+ "' does not match the required pattern '" + matcher + "' (resolved from '" + set.matcher + "').");
 		}
 
-		ProcessingContext context = ProcessingContext.of();
-		set.hints.forEach((type, value) -> context.set(type.name(), value));
-		try {
-			return CONVERTER.process(resolved, set.targetType, context);
-		} catch (NoProcessorException e) {
-			throw new ConversionException("The resolved value '" + resolved + "' of '" + set.resolvableValue
-					+ "' is not convertible into the target type '" + set.targetType +
-					"'; converting into this target type is not supported.", e);
-		}
+		return resolved;
 	}
 
 	private String deepReplace(ResolvingSettings<?> set) {
@@ -0,0 +1,81 @@
+package com.mantledillusion.injection.hura.core;
+
+import java.util.*;
+
+/**
+ * Thread safe registry of the root beans instantiated by an {@link Injector}, identifying beans by their identity.
+ * <p>
+ * The beans are distributed over stripes by their identity hash code, each stripe guarded by its own lock, so threads
+ * registering and unregistering different beans rarely wait for each other.
+ *
+ * @param <V> The type of the values registered for the beans
+ */
+final class RootBeanRegistry<V> {
+
+	private static final int STRIPE_COUNT = 16;
+
+	private final List<Map<Object, V>> stripes = new ArrayList<>(STRIPE_COUNT);
+
+	RootBeanRegistry() {
+		for (int i = 0; i < STRIPE_COUNT; i++) {
+			this.stripes.add(new IdentityHashMap<>());
+		}
+	}
+
+	private Map<Object, V> getStripe(Object bean) {
+		int hash = System.identityHashCode(bean);
+		return this.stripes.get((hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1));
+	}
+
+	void put(Object bean, V value) {
+		Map<Object, V> stripe = getStripe(bean);
+		synchronized (stripe) {
+			stripe.put(bean, value);
+		}
+	}
+
+	/**
+	 * @param bean The bean to unregister; might be null.
+	 * @return The value the bean was registered with, null if it was not registered
+	 */
+	V remove(Object bean) {
+		Map<Object, V> stripe = getStripe(bean);
+		synchronized (stripe) {
+			return stripe.remove(bean);
+		}
+	}
+
+	/**
+	 * @return Any of the registered beans and its value after unregistering it, null if there are none
+	 */
+	Map.Entry<Object, V> poll() {
+		for (Map<Object, V> stripe : this.stripes) {
+			synchronized (stripe) {
+				Iterator<Map.Entry<Object, V>> iter = stripe.entrySet().iterator();
+				if (iter.hasNext()) {
+					// ENTRIES OF AN IDENTITY MAP BECOME INVALID WHEN THEY ARE REMOVED
+					Map.Entry<Object, V> entry = new AbstractMap.SimpleImmutableEntry<>(iter.next());
+					iter.remove();
+					return entry;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return All registered beans and their values after unregistering them, never null
+	 */
+	List<Map.Entry<Object, V>> drain() {
+		List<Map.Entry<Object, V>> entries = new ArrayList<>();
+		for (Map<Object, V> stripe : this.stripes) {
+			synchronized (stripe) {
+				for (Map.Entry<Object, V> entry : stripe.entrySet()) {
+					entries.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue()));
+				}
+				stripe.clear();
+			}
+		}
+		return entries;
+	}
+}
@@ -2,11 +2,14 @@ package com.mantledillusion.injection.hura.core;
 
 import com.mantledillusion.injection.hura.core.exception.InjectionException;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 class SingletonContext {
 
@@ -23,10 +26,156 @@ class SingletonContext {
         }
     }
 
+    /**
+     * The singletons of an injection context, indexed by every type they are assignable to and by their qualifier.
+     * <p>
+     * Environment singletons are never aggregated, so they are not indexed.
+     * <p>
+     * Beans of the same injection sequence might be injected concurrently, so the singletons are read without any
+     * lock while they are changed; all maps are concurrent ones for that reason.
+     */
+    private static final class Singletons {
+
+        private final Map<String, SingletonInstance> beans;
+        private final Map<Class<?>, Map<String, SingletonInstance>> typeIndex;
+        private final NavigableMap<String, SingletonInstance> qualifierIndex;
+        private final Map<Object, Memo> memos = new ConcurrentHashMap<>();
+        private volatile int nonEnvironmentCount;
+
+        private Singletons() {
+            this.beans = new ConcurrentHashMap<>();
+            this.typeIndex = new ConcurrentHashMap<>();
+            this.qualifierIndex = new ConcurrentSkipListMap<>();
+        }
+
+        private Singletons(Singletons base) {
+            this.beans = new ConcurrentHashMap<>(base.beans);
+            this.typeIndex = new ConcurrentHashMap<>();
+            base.typeIndex.forEach((type, beans) -> this.typeIndex.put(type, new ConcurrentHashMap<>(beans)));
+            this.qualifierIndex = new ConcurrentSkipListMap<>(base.qualifierIndex);
+            this.nonEnvironmentCount = base.nonEnvironmentCount;
+        }
+
+        private void put(String qualifier, SingletonInstance singleton) {
+            SingletonInstance replaced = this.beans.put(qualifier, singleton);
+            if (replaced != null && !replaced.isEnvironmentSingleton) {
+                this.nonEnvironmentCount--;
+            }
+            unindex(qualifier, replaced);
+            if (!singleton.isEnvironmentSingleton) {
+                this.nonEnvironmentCount++;
+            }
+            if (!singleton.isEnvironmentSingleton && singleton.bean != null) {
+                this.qualifierIndex.put(qualifier, singleton);
+                for (Class<?> type : ASSIGNABLE_TYPES.get(singleton.bean.getClass())) {
+                    this.typeIndex.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).put(qualifier, singleton);
+                }
+            }
+        }
+
+        private SingletonInstance remove(String qualifier) {
+            SingletonInstance singleton = this.beans.remove(qualifier);
+            if (singleton != null && !singleton.isEnvironmentSingleton) {
+                this.nonEnvironmentCount--;
+            }
+            unindex(qualifier, singleton);
+            return singleton;
+        }
+
+        private void unindex(String qualifier, SingletonInstance singleton) {
+            if (singleton != null && !singleton.isEnvironmentSingleton && singleton.bean != null) {
+                this.qualifierIndex.remove(qualifier);
+                for (Class<?> type : ASSIGNABLE_TYPES.get(singleton.bean.getClass())) {
+                    Map<String, SingletonInstance> beans = this.typeIndex.get(type);
+                    beans.remove(qualifier);
+                    if (beans.isEmpty()) {
+                        this.typeIndex.remove(type);
+                    }
+                }
+            }
+        }
+
+        private Map<String, SingletonInstance> getCandidates(Class<?> type, String qualifierPrefix) {
+            if (qualifierPrefix.isEmpty()) {
+                // ARRAY TYPES ARE COVARIANT, SO THEIR CANDIDATES CANNOT BE RETRIEVED BY THEIR TYPE
+                return this.typeIndex.getOrDefault(type.isArray() ? Object.class : type, Collections.emptyMap());
+            }
+
+            // ALL QUALIFIERS STARTING WITH THE PREFIX ARE SORTED BEFORE THE PREFIX WITH ITS LAST CHARACTER INCREMENTED
+            char last = qualifierPrefix.charAt(qualifierPrefix.length() - 1);
+            if (last == Character.MAX_VALUE) {
+                return this.qualifierIndex.tailMap(qualifierPrefix, true);
+            }
+            return this.qualifierIndex.subMap(qualifierPrefix, true,
+                    qualifierPrefix.substring(0, qualifierPrefix.length() - 1) + (char) (last + 1), false);
+        }
+    }
+
+    /**
+     * Immutable view on the singletons of a parent injection context at the time a child context was created.
+     * <p>
+     * As the singletons of a view never change, values memoized for a view stay valid for as long as it is used.
+     */
+    private static final class BaseLayer {
+
+        private final Singletons singletons;
+        private final BaseLayer base;
+
+        private BaseLayer(Singletons singletons, BaseLayer base) {
+            this.singletons = singletons;
+            this.base = base;
+        }
+    }
+
+    /**
+     * A value memoized for a generation of the singletons of a context.
+     */
+    private static final class Memo {
+
+        private final long generation;
+        private final Object value;
+
+        private Memo(long generation, Object value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+
+    private static final ClassValue<Class<?>[]> ASSIGNABLE_TYPES = new ClassValue<Class<?>[]>() {
+
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                addInterfaces(types, current);
+            }
+            types.add(Object.class);
+            return types.toArray(new Class<?>[0]);
+        }
+
+        private void addInterfaces(Set<Class<?>> types, Class<?> type) {
+            if (types.add(type)) {
+                for (Class<?> interfaceType : type.getInterfaces()) {
+                    addInterfaces(types, interfaceType);
+                }
+            }
+        }
+    };
+
+    /**
+     * The count of candidates from which on aggregating singletons is done in parallel.
+     */
+    private static final int PARALLEL_AGGREGATION_THRESHOLD = 512;
+
     static final String INJECTION_CONTEXT_SINGLETON_ID = "_injectionContext";
 
     private final Object injectionTreeLock;
-    private final Map<String, SingletonInstance> singletonBeans;
+    private final BaseLayer base;
+    private final Map<Object, Memo> memos = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> creationLocks = new ConcurrentHashMap<>();
+    private volatile Singletons singletons;
+    private boolean isShared;
+    private volatile long generation;
 
     SingletonContext(Object injectionTreeLock, ResolvingContext resolvingContext, AliasContext aliasContext, TypeContext typeContext) {
         this(injectionTreeLock, null, resolvingContext, aliasContext, typeContext);
@@ -34,17 +183,15 @@ class SingletonContext {
 
     SingletonContext(Object injectionTreeLock, SingletonContext baseContext, ResolvingContext resolvingContext, AliasContext aliasContext, TypeContext typeContext) {
         this.injectionTreeLock = injectionTreeLock;
-        this.singletonBeans = new HashMap<>();
-        if (baseContext != null) {
-            /*
-             * SingletonAllocation from a base context are singletons from a parent injection context,
-             * so they are treated as allocated; they cannot be changed anymore, so order of
-             * injection within an injection sequence is not relevant any more.
-             */
-            for (String qualifier : baseContext.singletonBeans.keySet()) {
-                addSingleton(qualifier, baseContext.singletonBeans.get(qualifier).bean, false, true);
-            }
-        }
+        /*
+         * SingletonAllocation from a base context are singletons from a parent injection context,
+         * so they are treated as allocated; they cannot be changed anymore, so order of
+         * injection within an injection sequence is not relevant any more.
+         *
+         * Instead of copying them, they are read through an immutable view on the base context.
+         */
+        this.base = baseContext == null ? null : baseContext.share();
+        this.singletons = new Singletons();
         addSingleton(INJECTION_CONTEXT_SINGLETON_ID, this, true,false);
         if (resolvingContext != null) {
             addSingleton(ResolvingContext.RESOLVING_CONTEXT_SINGLETON_ID, resolvingContext, true, false);
@@ -61,14 +208,52 @@ class SingletonContext {
         return injectionTreeLock;
     }
 
+    /*
+     * Returns a view on the singletons of this context that will not change anymore; if this context adds or removes
+     * singletons afterwards, it will do so on a copy.
+     */
+    private synchronized BaseLayer share() {
+        this.isShared = true;
+        return new BaseLayer(this.singletons, this.base);
+    }
+
+    /*
+     * Returns this context's singletons for being changed, copying them first if they are shared; as the singletons
+     * will change, all memoized values are invalidated.
+     */
+    private Singletons modify() {
+        this.generation++;
+        this.memos.clear();
+        if (this.isShared) {
+            this.singletons = new Singletons(this.singletons);
+            this.isShared = false;
+        }
+        return this.singletons;
+    }
+
+    /*
+     * Returns the layer holding the singleton of the given qualifier that is closest to this context, or null if
+     * there is none.
+     */
+    private BaseLayer findBaseLayer(String qualifier) {
+        for (BaseLayer layer = this.base; layer != null; layer = layer.base) {
+            if (layer.singletons.beans.containsKey(qualifier)) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
     boolean hasSingleton(String qualifier, Class<?> type, boolean allocatedOnly) {
-        if (this.singletonBeans.containsKey(qualifier)) {
-            if (this.singletonBeans.get(qualifier).isAllocated) {
+        SingletonInstance singleton = this.singletons.beans.get(qualifier);
+        if (singleton == null) {
+            return findBaseLayer(qualifier) != null;
+        } else {
+            if (singleton.isAllocated) {
                 return true;
             } else if (allocatedOnly) {
                 return false;
-            } else if (this.singletonBeans.get(qualifier).bean == null
-                    || this.singletonBeans.get(qualifier).bean.getClass() == type) {
+            } else if (singleton.bean == null || singleton.bean.getClass() == type) {
                 return true;
             } else {
                 /*
@@ -84,45 +269,186 @@ class SingletonContext {
                  * sequence, causing unpredictable behavior.
                  */
                 throw new InjectionException("A singleton of the type '"
-                        + this.singletonBeans.get(qualifier).bean.getClass().getSimpleName()
+                        + singleton.bean.getClass().getSimpleName()
                         + "' was created on demand for the qualifier '" + qualifier
                         + "' instead of being allocated. As a result, it can be only injected into "
                         + "targets of the same type in its injection sequence, but the same qualifier "
                         + "is also required for a target of the type '" + type.getSimpleName() + "'.");
             }
-        } else {
-            return false;
         }
     }
 
-    <T> void addSingleton(String qualifier, T instance, boolean isEnvironmentSingleton, boolean isAllocated) {
-        this.singletonBeans.put(qualifier, new SingletonInstance(instance, isEnvironmentSingleton, isAllocated));
+    synchronized <T> void addSingleton(String qualifier, T instance, boolean isEnvironmentSingleton, boolean isAllocated) {
+        modify().put(qualifier, new SingletonInstance(instance, isEnvironmentSingleton, isAllocated));
+        releaseCreation(qualifier);
+    }
+
+    /**
+     * Locks the creation of the singleton of the given qualifier for the current thread, until the singleton is added
+     * to this context or {@link #releaseCreation(String)} is called.
+     * <p>
+     * Other threads can already retrieve a singleton that has been added while its fields are still injected, just
+     * as a cyclic dependency of the creating thread can.
+     *
+     * @param qualifier The qualifier of the singleton to create; might <b>not</b> be null.
+     */
+    void lockCreation(String qualifier) {
+        this.creationLocks.computeIfAbsent(qualifier, q -> new ReentrantLock()).lock();
+    }
+
+    /**
+     * Releases the creation lock of the singleton of the given qualifier, if it is held by the current thread.
+     *
+     * @param qualifier The qualifier of the singleton; might <b>not</b> be null.
+     */
+    void releaseCreation(String qualifier) {
+        ReentrantLock lock = this.creationLocks.get(qualifier);
+        if (lock != null && lock.isHeldByCurrentThread()) {
+            lock.unlock();
+        }
     }
 
     @SuppressWarnings("unchecked")
     <T> T retrieveSingleton(String qualifier) {
-        return (T) this.singletonBeans.get(qualifier).bean;
+        SingletonInstance singleton = this.singletons.beans.get(qualifier);
+        if (singleton == null) {
+            BaseLayer layer = findBaseLayer(qualifier);
+            singleton = layer == null ? null : layer.singletons.beans.get(qualifier);
+        }
+        return (T) singleton.bean;
     }
 
     @SuppressWarnings("unchecked")
-    <T> T removeSingleton(String qualifier) {
-        return (T) this.singletonBeans.remove(qualifier);
+    synchronized <T> T removeSingleton(String qualifier) {
+        SingletonInstance singleton = modify().remove(qualifier);
+        return singleton == null ? null : (T) singleton.bean;
     }
 
     <T> Collection<T> aggregate(Class<T> type, Collection<BiPredicate<String, T>> biPredicates) {
-        return this.singletonBeans
-                .entrySet()
-                .parallelStream()
+        List<Map.Entry<String, SingletonInstance>> candidates = getCandidates(type, biPredicates);
+
+        // FORKING ONLY PAYS OFF FOR A LOT OF CANDIDATES
+        Stream<Map.Entry<String, SingletonInstance>> singletons = candidates.size() >= PARALLEL_AGGREGATION_THRESHOLD
+                ? candidates.parallelStream() : candidates.stream();
+        return singletons
                 .filter(entry -> match(entry, type, biPredicates))
                 .map(entry -> (T) entry.getValue().bean)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Streams the singletons of the given type matching the given predicates.
+     * <p>
+     * The candidates are determined when calling, so singletons added while the {@link Stream} is consumed are not
+     * part of it; only the predicates are evaluated when the {@link Stream} is consumed. The {@link Stream} is
+     * sequential, so the predicates are evaluated on the consuming thread.
+     *
+     * @param <T> The singletons' type
+     * @param type The type of the singletons to stream; might <b>not</b> be null.
+     * @param biPredicates The predicates to match; might be null or contain nulls.
+     * @return A {@link Stream} of the matching singletons, never null
+     */
+    <T> Stream<T> stream(Class<T> type, Collection<BiPredicate<String, T>> biPredicates) {
+        return getCandidates(type, biPredicates).stream()
+                .filter(entry -> match(entry, type, biPredicates))
+                .map(entry -> (T) entry.getValue().bean);
+    }
+
+    private <T> List<Map.Entry<String, SingletonInstance>> getCandidates(Class<T> type, Collection<BiPredicate<String, T>> biPredicates) {
+        // ONLY THE SINGLETONS ASSIGNABLE TO THE TYPE OR MATCHING THE QUALIFIER PREFIX ARE CANDIDATES
+        String qualifierPrefix = getQualifierPrefix(biPredicates);
+        Singletons own = this.singletons;
+        List<Map.Entry<String, SingletonInstance>> candidates = new ArrayList<>(own.getCandidates(type, qualifierPrefix).entrySet());
+        for (BaseLayer layer = this.base; layer != null; layer = layer.base) {
+            // SINGLETONS OF THE BASE CONTEXT MIGHT BE OVERRIDDEN BY A CLOSER ONE
+            for (Map.Entry<String, SingletonInstance> entry : layer.singletons.getCandidates(type, qualifierPrefix).entrySet()) {
+                if (!isOverridden(own, entry.getKey(), layer)) {
+                    candidates.add(entry);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the value memoized for the given key, or memoizes the value of the given supplier if there is none.
+     * <p>
+     * Memoized values are only valid as long as no singletons are added or removed. Values that only depend on the
+     * singletons of the base context are memoized for the base context, so they are shared by all injection sequences
+     * using the same base context.
+     *
+     * @param <V> The value type
+     * @param key The key of the value; might <b>not</b> be null.
+     * @param supplier The supplier of the value; might <b>not</b> be null.
+     * @return The memoized value, might be null if the supplier returns null
+     */
+    @SuppressWarnings("unchecked")
+    <V> V memoize(Object key, Supplier<V> supplier) {
+        // IF SINGLETONS CHANGE WHILE THE VALUE IS SUPPLIED, IT IS MEMOIZED FOR A GENERATION THAT IS ALREADY OUTDATED
+        long generation = this.generation;
+        if (isDerivedFromBase()) {
+            Map<Object, Memo> baseMemos = this.base.singletons.memos;
+            Memo memo = baseMemos.get(key);
+            if (memo == null) {
+                memo = new Memo(generation, supplier.get());
+                // A SINGLETON ADDED WHILE THE VALUE WAS SUPPLIED MIGHT BE PART OF IT, SO IT IS ONLY VALID FOR THIS CONTEXT
+                if (generation != this.generation) {
+                    return (V) memo.value;
+                }
+                baseMemos.putIfAbsent(key, memo);
+            }
+            return (V) memo.value;
+        }
+
+        Memo memo = this.memos.get(key);
+        if (memo == null || memo.generation != generation) {
+            memo = new Memo(generation, supplier.get());
+            this.memos.put(key, memo);
+        }
+        return (V) memo.value;
+    }
+
+    /*
+     * Returns whether the singletons of this context are environment singletons only, which do neither take part in
+     * aggregation nor override any singleton of the base context that does; in that case, aggregating singletons from
+     * this context yields the same as aggregating them from the base context.
+     */
+    private boolean isDerivedFromBase() {
+        Singletons singletons = this.singletons;
+        if (this.base == null || singletons.nonEnvironmentCount > 0) {
+            return false;
+        }
+        for (String qualifier : singletons.beans.keySet()) {
+            for (BaseLayer layer = this.base; layer != null; layer = layer.base) {
+                if (layer.singletons.qualifierIndex.containsKey(qualifier)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static <T> String getQualifierPrefix(Collection<BiPredicate<String, T>> biPredicates) {
+        String qualifierPrefix = "";
+        if (biPredicates != null) {
+            for (BiPredicate<String, T> predicate : biPredicates) {
+                if (predicate instanceof QualifierMatcher
+                        && ((QualifierMatcher<T>) predicate).getPrefix().length() > qualifierPrefix.length()) {
+                    qualifierPrefix = ((QualifierMatcher<T>) predicate).getPrefix();
+                }
+            }
+        }
+        return qualifierPrefix;
+    }
+
+    private boolean isOverridden(Singletons own, String qualifier, BaseLayer layer) {
+        return own.beans.containsKey(qualifier) || findBaseLayer(qualifier) != layer;
+    }
+
     private static <T> boolean match(Map.Entry<String, SingletonInstance> entry, Class<T> type, Collection<BiPredicate<String, T>> biPredicates) {
-        return !entry.getValue().isEnvironmentSingleton &&
-                type.isInstance(entry.getValue().bean) &&
+        return type.isInstance(entry.getValue().bean) &&
                 (biPredicates == null || biPredicates
-                        .parallelStream()
+                        .stream()
                         .allMatch(predicate -> match(entry.getKey(), (T) entry.getValue().bean, predicate)));
     }
 
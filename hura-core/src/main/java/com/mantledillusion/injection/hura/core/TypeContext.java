@@ -1,20 +1,20 @@
 package com.mantledillusion.injection.hura.core;
 
 import java.lang.reflect.Type;
-import java.util.HashMap;
 import java.util.Map;
 
 class TypeContext {
 
 	static final String TYPE_CONTEXT_SINGLETON_ID = "_typeContext";
 
-	private final Map<Type, Injector.AbstractAllocator<?>> typeAllocations = new HashMap<>();
+	private final LayeredMap<Type, Injector.AbstractAllocator<?>> typeAllocations;
 	
 	TypeContext() {
+		this(new LayeredMap<>());
 	}
 
-	TypeContext(TypeContext base) {
-		this.typeAllocations.putAll(base.typeAllocations);
+	private TypeContext(LayeredMap<Type, Injector.AbstractAllocator<?>> typeAllocations) {
+		this.typeAllocations = typeAllocations;
 	}
 	
 	boolean hasTypeAllocator(Type type) {
@@ -27,8 +27,9 @@ class TypeContext {
 	}
 	
 	TypeContext merge(Map<Type, Injector.AbstractAllocator<?>> typeAllocations) {
-		TypeContext newContext = new TypeContext(this);
-		newContext.typeAllocations.putAll(typeAllocations);
-		return newContext;
+		if (typeAllocations.isEmpty()) {
+			return this;
+		}
+		return new TypeContext(this.typeAllocations.with(typeAllocations));
 	}
 }
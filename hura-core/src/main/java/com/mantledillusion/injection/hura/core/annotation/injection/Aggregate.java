@@ -49,6 +49,8 @@ public @interface Aggregate {
 
     /**
      * All {@link BiPredicate}s the singleton and its qualifier need to match to be aggregated.
+     * <p>
+     * The predicates of a {@link #memoized()} aggregation have to be deterministic, as their outcome is reused.
      *
      * @return The {@link BiPredicate}, never null, ignored if empty
      */
@@ -64,4 +66,32 @@ public @interface Aggregate {
      * @return True if a random singleton should be assigned to the field if multiple are found, false otherwise
      */
     boolean distinct() default false;
+
+    /**
+     * When @{@link Aggregate} is used on a {@link java.util.List}, {@link java.util.Set} or
+     * {@link java.util.Collection} field, the field is set to a new modifiable collection by default.
+     * <p>
+     * If set to true, the field is set to an unmodifiable collection instead.
+     *
+     * @return True if an unmodifiable collection should be set to the field, false otherwise
+     */
+    boolean immutable() default false;
+
+    /**
+     * When @{@link Aggregate} is used with {@link #immutable()}, the singletons are aggregated anew for every bean by
+     * default.
+     * <p>
+     * If set to true, the aggregated singletons are determined once and reused, as long as no singleton is added:
+     * <ul>
+     * <li>by all beans of the same injection sequence</li>
+     * <li>by all injection sequences of the same parent, as long as they only aggregate singletons of that parent</li>
+     * </ul>
+     * The {@link #predicates()} are only instantiated and evaluated when the singletons are determined, so they have
+     * to evaluate the same qualifier and singleton the same way every time, without any side effects.
+     * <p>
+     * Requires {@link #immutable()} to be set as well, as the collection set to the field is shared.
+     *
+     * @return True if the aggregated singletons should be reused, false otherwise
+     */
+    boolean memoized() default false;
 }
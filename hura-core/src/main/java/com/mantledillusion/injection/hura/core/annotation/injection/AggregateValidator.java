@@ -4,6 +4,7 @@ import com.mantledillusion.injection.hura.core.Injector;
 import com.mantledillusion.injection.hura.core.annotation.ValidatorUtils;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.AnnotationProcessor;
 import com.mantledillusion.injection.hura.core.exception.ValidatorException;
 
@@ -12,6 +13,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+@Stateless
 class AggregateValidator implements AnnotationProcessor<Aggregate, AnnotatedElement> {
 
 	@Construct
@@ -30,6 +32,11 @@ class AggregateValidator implements AnnotationProcessor<Aggregate, AnnotatedElem
 					"The " + ValidatorUtils.getDescription(annotatedElement) + " is annotated with @"
 							+ Aggregate.class.getSimpleName() + ", but is also annotated with @"
 							+ Plugin.class.getSimpleName() + ", which is not allowed.");
+		} else if (annotationInstance.memoized() && !annotationInstance.immutable()) {
+			throw new ValidatorException(
+					"The " + ValidatorUtils.getDescription(annotatedElement) + " is annotated with @"
+							+ Aggregate.class.getSimpleName() + ", but is memoized without being immutable, which is "
+							+ "not allowed.");
 		} else if (annotatedElement instanceof Field) {
 			Field field = (Field) annotatedElement;
 			if (Modifier.isStatic(field.getModifiers())) {
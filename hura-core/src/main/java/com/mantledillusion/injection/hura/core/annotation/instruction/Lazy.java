@@ -0,0 +1,40 @@
+package com.mantledillusion.injection.hura.core.annotation.instruction;
+
+import com.mantledillusion.injection.hura.core.Blueprint;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.PreConstruct;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Extension {@link Annotation} to @{@link Inject}.
+ * <p>
+ * A {@link Field}/{@link Parameter} annotated with @{@link Inject}
+ * and @{@link Lazy} is injected as described in {@link Optional.InjectionMode#LAZY}:
+ * instead of the bean itself, a {@link Proxy} of the injection target's type is
+ * injected that instantiates the bean on the first invocation of any of its methods.
+ * <p>
+ * {@link Field}s/{@link Parameter}s annotated with @{@link Lazy} may not:
+ * <ul>
+ * <li>be not annotated with @{@link Inject}</li>
+ * <li>be annotated with @{@link Qualifier}, as {@link Blueprint.SingletonAllocation}s cannot be injected lazily</li>
+ * <li>be annotated with @{@link Optional}</li>
+ * <li>be of a type that is not an interface</li>
+ * </ul>
+ */
+@Retention(RUNTIME)
+@Target({ FIELD, PARAMETER })
+@PreConstruct(LazyValidator.class)
+public @interface Lazy {
+
+}
@@ -0,0 +1,57 @@
+package com.mantledillusion.injection.hura.core.annotation.instruction;
+
+import com.mantledillusion.injection.hura.core.Injector;
+import com.mantledillusion.injection.hura.core.annotation.ValidatorUtils;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.AnnotationProcessor;
+import com.mantledillusion.injection.hura.core.exception.ValidatorException;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+
+@Stateless
+class LazyValidator implements AnnotationProcessor<Lazy, AnnotatedElement> {
+
+	@Construct
+	LazyValidator() {}
+
+	@Override
+	public void process(Phase phase, Object bean, Lazy annotationInstance, AnnotatedElement annotatedElement,
+						Injector.TemporalInjectorCallback callback) throws Exception {
+		if (!annotatedElement.isAnnotationPresent(Inject.class)) {
+			throw new ValidatorException(
+					"The " + ValidatorUtils.getDescription(annotatedElement) + " is not annotated with @"
+							+ Inject.class.getSimpleName() + ", which it has to be to be annotated with @"
+							+ Lazy.class.getSimpleName());
+		} else if (annotatedElement.isAnnotationPresent(Qualifier.class)) {
+			throw new ValidatorException(
+					"The " + ValidatorUtils.getDescription(annotatedElement) + " is annotated with @"
+							+ Lazy.class.getSimpleName() + ", but also with @" + Qualifier.class.getSimpleName()
+							+ "; singletons cannot be injected lazily.");
+		} else if (annotatedElement.isAnnotationPresent(Optional.class)) {
+			throw new ValidatorException(
+					"The " + ValidatorUtils.getDescription(annotatedElement) + " is annotated with @"
+							+ Lazy.class.getSimpleName() + ", but also with @" + Optional.class.getSimpleName()
+							+ ", which is not allowed.");
+		}
+
+		Class<?> type = annotatedElement instanceof Field ? ((Field) annotatedElement).getType()
+				: ((Parameter) annotatedElement).getType();
+		if (!type.isInterface()) {
+			throw new ValidatorException(
+					"The " + ValidatorUtils.getDescription(annotatedElement) + " is annotated with @"
+							+ Lazy.class.getSimpleName() + ", but its type " + type.getSimpleName()
+							+ " is not an interface, which it has to be to inject a proxy of it.");
+		} else if (!Modifier.isPublic(type.getModifiers())) {
+			throw new ValidatorException(
+					"The " + ValidatorUtils.getDescription(annotatedElement) + " is annotated with @"
+							+ Lazy.class.getSimpleName() + ", but its type " + type.getSimpleName()
+							+ " is not public, which it has to be for the proxy to invoke the bean's methods.");
+		}
+	}
+}
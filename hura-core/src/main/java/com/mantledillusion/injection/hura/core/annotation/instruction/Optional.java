@@ -104,6 +104,21 @@ public @interface Optional {
 		 * {@link Blueprint.SingletonAllocation}, leave the target null.</li>
 		 * </ul>
 		 */
-		EXPLICIT
+		EXPLICIT,
+
+		/**
+		 * Fill the {@link Field}/{@link Parameter} annotated with @{@link Inject}
+		 * and @{@link Lazy} with a proxy of its type, which instantiates the actual bean
+		 * as described in {@link #EAGER} on the first invocation of any of its methods.
+		 * <p>
+		 * The bean is instantiated in a child sequence of the injection sequence the proxy
+		 * was injected in, and destroyed when the root bean of that sequence is destroyed. It
+		 * can use all singletons of that sequence, but singletons created on demand for the
+		 * bean and its sub beans are only available to them. Invoking the proxy's equals(),
+		 * hashCode() and toString() does not instantiate the bean.
+		 * <p>
+		 * Only applies to independent beans.
+		 */
+		LAZY
 	}
 }
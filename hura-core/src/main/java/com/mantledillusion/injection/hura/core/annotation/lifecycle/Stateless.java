@@ -0,0 +1,30 @@
+package com.mantledillusion.injection.hura.core.annotation.lifecycle;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.AnnotationProcessor;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.BeanProcessor;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * {@link Annotation} for {@link BeanProcessor} and {@link AnnotationProcessor} implementations that do not hold any
+ * state specific to a bean or an injection sequence.
+ * <p>
+ * Instead of injecting a new instance of the processor for every bean it is applied on, a single instance of a
+ * processor annotated with @{@link Stateless} is instantiated and shared by all beans of all injection sequences.
+ * <p>
+ * As the shared instance is not part of any injection sequence, processors annotated with @{@link Stateless} may not:
+ * <ul>
+ * <li>require any parameter for their construction</li>
+ * <li>have fields to inject, resolve or aggregate</li>
+ * </ul>
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface Stateless {
+
+}
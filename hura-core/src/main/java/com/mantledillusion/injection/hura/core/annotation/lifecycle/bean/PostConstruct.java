@@ -8,6 +8,8 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
@@ -27,12 +29,24 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * <ul>
  * <li>be static</li>
  * </ul>
+ * <p>
+ * By default, all {@link Phase#POST_CONSTRUCT} processing of an injection sequence is done sequentially on the thread
+ * requesting the injection. Processing declared {@link #async()} is started on an {@link Executor} instead and runs
+ * concurrently to all other processing; the injection returns after all processing has completed. If any processing
+ * fails, the injection fails and its beans are destroyed as usual, once all processing has completed.
  */
 @Retention(RUNTIME)
 @Target({TYPE, METHOD})
 @PreConstruct(PostConstructValidator.class)
 public @interface PostConstruct {
 
+    /**
+     * The qualifier of the singleton {@link Executor} to run {@link #async()} processing on.
+     * <p>
+     * If there is no singleton allocated for the qualifier, the {@link ForkJoinPool#commonPool()} is used.
+     */
+    String QUALIFIER_EXECUTOR = "_postConstructExecutor";
+
     /**
      * The {@link BeanProcessor} implementations to inject and apply on bean instances of a {@link Class} or
      * {@link Method}'s {@link Class} annotated with @{@link PostConstruct}.
@@ -40,4 +54,15 @@ public @interface PostConstruct {
      * @return The {@link BeanProcessor} implementation to inject and execute on a bean; never null
      */
     Class<? extends BeanProcessor<?>>[] value() default {};
+
+    /**
+     * Determines whether the {@link #value()} processors and the annotated {@link Method} are executed asynchronously
+     * on the {@link Executor} allocated to {@link #QUALIFIER_EXECUTOR}.
+     * <p>
+     * Asynchronous processing should be independent of all other {@link Phase#POST_CONSTRUCT} processing of the
+     * injection sequence, as there is no guarantee on its order.
+     *
+     * @return True if the processing may run asynchronously, false otherwise; false by default
+     */
+    boolean async() default false;
 }
\ No newline at end of file
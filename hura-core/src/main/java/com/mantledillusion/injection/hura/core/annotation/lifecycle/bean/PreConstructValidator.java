@@ -1,7 +1,9 @@
 package com.mantledillusion.injection.hura.core.annotation.lifecycle.bean;
 
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
 
+@Stateless
 class PreConstructValidator extends AbstractLifecycleAnnotationValidator<PreConstruct> {
 
     @Construct
@@ -4,12 +4,14 @@ import com.mantledillusion.injection.hura.core.Injector;
 import com.mantledillusion.injection.hura.core.annotation.ValidatorUtils;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.annotation.AnnotationProcessor;
 import com.mantledillusion.injection.hura.core.exception.ValidatorException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.*;
 
+@Stateless
 class ResolveValidator implements AnnotationProcessor<Resolve, AnnotatedElement> {
 
 	@Construct
@@ -0,0 +1,35 @@
+package com.mantledillusion.injection.hura.core.exception;
+
+import com.mantledillusion.injection.hura.core.Injector;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Type for {@link ProcessorException}s that occur during destroying multiple injection sub trees at once using
+ * {@link Injector#destroyAll(int, Duration, Duration)}.
+ */
+public class DestructionException extends ProcessorException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Set<Object> unfinished;
+
+	public DestructionException(String message, Throwable t, Set<Object> unfinished) {
+		super(message, t);
+		this.unfinished = Collections.unmodifiableSet(unfinished);
+	}
+
+	/**
+	 * Returns the root beans whose sub trees did not finish their destruction in time.
+	 * <p>
+	 * The destruction of these sub trees continues in the background; they are not registered at their injector
+	 * anymore.
+	 *
+	 * @return The root beans whose destruction did not finish, never null
+	 */
+	public Set<Object> getUnfinished() {
+		return this.unfinished;
+	}
+}
@@ -5,6 +5,9 @@ import com.mantledillusion.essentials.object.ListEssentials;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * Interface for services that provide aggregation of singleton beans.
@@ -101,8 +104,108 @@ public interface AggregationProvider extends StatefulService {
         if (qualifierMatcher == null) {
             throw new IllegalArgumentException("Cannot match a singleton's qualifier against a null matcher");
         }
+        Pattern pattern = Pattern.compile(qualifierMatcher);
         predicates = predicates == null ? new ArrayList<>() : new ArrayList<>(predicates);
-        predicates.add((qualifier, bean) -> qualifier.matches(qualifierMatcher));
+        predicates.add((qualifier, bean) -> pattern.matcher(qualifier).matches());
         return aggregate(type, predicates);
     }
+
+    /**
+     * Streams all singleton beans matching the {@link java.util.function.Predicate}s.
+     * <p>
+     * See {@link #stream(Class, Collection)} for when the predicates are evaluated.
+     *
+     * @param <T> The singleton's type
+     * @param type The type the singleton; might <b>not</b> be null.
+     * @param predicates The {@link BiPredicate}s the singleton and its qualifier need to match; might be null or contain nulls.
+     * @return A {@link Stream} of all singletons matching the {@link java.util.function.Predicate}s, never null, might be empty
+     */
+    default <T> Stream<T> stream(Class<T> type, BiPredicate<String, T>... predicates) {
+        return stream(type, ListEssentials.asList(predicates));
+    }
+
+    /**
+     * Streams all singleton beans matching the {@link java.util.function.Predicate}s.
+     * <p>
+     * In contrast to aggregating, the matching singletons do not have to be collected: the candidates are determined
+     * when calling, but the predicates can be evaluated lazily when the {@link Stream} is consumed, so
+     * short-circuiting operations like {@link Stream#findFirst()} do not evaluate the predicates for all singletons.
+     * Singletons added while the {@link Stream} is consumed are not part of it.
+     * <p>
+     * The returned {@link Stream} is sequential, so the predicates and all operations on it are performed on the
+     * consuming thread; use {@link Stream#parallel()} to consume it concurrently.
+     * <p>
+     * The default implementation streams the result of {@link #aggregate(Class, Collection)}, so it evaluates the
+     * predicates for all singletons right away; implementations that are able to evaluate them lazily override it.
+     *
+     * @param <T> The singleton's type
+     * @param type The type the singleton; might <b>not</b> be null.
+     * @param predicates The {@link BiPredicate}s the singleton and its qualifier need to match; might be null or contain nulls.
+     * @return A {@link Stream} of all singletons matching the {@link java.util.function.Predicate}s, never null, might be empty
+     */
+    default <T> Stream<T> stream(Class<T> type, Collection<BiPredicate<String, T>> predicates) {
+        return aggregate(type, predicates).stream();
+    }
+
+    /**
+     * Streams all singleton beans matching the {@link java.util.function.Predicate}s.
+     * <p>
+     * See {@link #stream(Class, Collection)} for when the predicates are evaluated.
+     *
+     * @param <T> The singleton's type
+     * @param type The type the singleton; might <b>not</b> be null.
+     * @param qualifierMatcher The {@link java.util.regex.Pattern} the singleton's qualifier needs to match; might <b>not</b> be null.
+     * @param predicates The {@link BiPredicate}s the singleton and its qualifier need to match; might be null or contain nulls.
+     * @return A {@link Stream} of all singletons matching the {@link java.util.function.Predicate}s, never null, might be empty
+     */
+    default <T> Stream<T> stream(Class<T> type, String qualifierMatcher, BiPredicate<String, T>... predicates) {
+        return stream(type, qualifierMatcher, ListEssentials.asList(predicates));
+    }
+
+    /**
+     * Streams all singleton beans matching the {@link java.util.function.Predicate}s.
+     * <p>
+     * See {@link #stream(Class, Collection)} for when the predicates are evaluated.
+     *
+     * @param <T> The singleton's type
+     * @param type The type the singleton; might <b>not</b> be null.
+     * @param qualifierMatcher The {@link java.util.regex.Pattern} the singleton's qualifier needs to match; might <b>not</b> be null.
+     * @param predicates The {@link BiPredicate}s the singleton and its qualifier need to match; might be null or contain nulls.
+     * @return A {@link Stream} of all singletons matching the {@link java.util.function.Predicate}s, never null, might be empty
+     */
+    default <T> Stream<T> stream(Class<T> type, String qualifierMatcher, Collection<BiPredicate<String, T>> predicates) {
+        if (qualifierMatcher == null) {
+            throw new IllegalArgumentException("Cannot match a singleton's qualifier against a null matcher");
+        }
+        Pattern pattern = Pattern.compile(qualifierMatcher);
+        predicates = predicates == null ? new ArrayList<>() : new ArrayList<>(predicates);
+        predicates.add((qualifier, bean) -> pattern.matcher(qualifier).matches());
+        return stream(type, predicates);
+    }
+
+    /**
+     * Performs the given action for each singleton bean matching the {@link java.util.function.Predicate}s without
+     * collecting them.
+     *
+     * @param <T> The singleton's type
+     * @param type The type the singleton; might <b>not</b> be null.
+     * @param action The action to perform for every matching singleton; might <b>not</b> be null.
+     * @param predicates The {@link BiPredicate}s the singleton and its qualifier need to match; might be null or contain nulls.
+     */
+    default <T> void forEach(Class<T> type, Consumer<? super T> action, BiPredicate<String, T>... predicates) {
+        forEach(type, action, ListEssentials.asList(predicates));
+    }
+
+    /**
+     * Performs the given action for each singleton bean matching the {@link java.util.function.Predicate}s without
+     * collecting them.
+     *
+     * @param <T> The singleton's type
+     * @param type The type the singleton; might <b>not</b> be null.
+     * @param action The action to perform for every matching singleton; might <b>not</b> be null.
+     * @param predicates The {@link BiPredicate}s the singleton and its qualifier need to match; might be null or contain nulls.
+     */
+    default <T> void forEach(Class<T> type, Consumer<? super T> action, Collection<BiPredicate<String, T>> predicates) {
+        stream(type, predicates).sequential().forEach(action);
+    }
 }
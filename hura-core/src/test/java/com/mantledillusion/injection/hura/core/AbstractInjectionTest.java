@@ -3,6 +3,7 @@ package com.mantledillusion.injection.hura.core;
 import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
 import com.mantledillusion.injection.hura.core.context.misc.ExampleContext;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 
 public class AbstractInjectionTest {
@@ -52,4 +53,9 @@ public class AbstractInjectionTest {
 		this.suite = Injector.of().instantiate(InjectorTestSuite.class);
 	}
 
+	@AfterEach
+	public void tearDown() {
+		InjectionSnapshot.reset();
+	}
+
 }
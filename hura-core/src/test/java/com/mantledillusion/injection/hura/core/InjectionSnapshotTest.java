@@ -0,0 +1,70 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class InjectionSnapshotTest {
+
+	public static class InjectableWithEscapedField {
+
+		@Inject
+		public Injectable \u03c6\u03b9\u03b5\u03bb\u03b4;
+	}
+
+	@AfterEach
+	public void tearDown() {
+		InjectionSnapshot.reset();
+	}
+
+	@Test
+	public void testSnapshotEntryUsage(@TempDir File directory) {
+		File snapshot = new File(directory, "snapshot");
+		Assertions.assertEquals(1, InjectionSnapshot.save(snapshot, Collections.singletonList(Injectable.class)));
+		Assertions.assertFalse(InjectionIndex.of(Injectable.class).isIndexed());
+
+		Assertions.assertEquals(1, InjectionSnapshot.load(snapshot));
+		Assertions.assertEquals(InjectionIndex.describe(Injectable.class), InjectionSnapshot.lookup(Injectable.class));
+		Assertions.assertTrue(InjectionIndex.of(Injectable.class).isIndexed());
+
+		InjectionSnapshot.reset();
+		Assertions.assertNull(InjectionSnapshot.lookup(Injectable.class));
+	}
+
+	@Test
+	public void testStaleSnapshotEntryRejection(@TempDir File directory) throws Exception {
+		File snapshot = new File(directory, "snapshot");
+		Assertions.assertEquals(1, InjectionSnapshot.save(snapshot, Collections.singletonList(Injectable.class)));
+
+		// THE CHECKSUM OF THE ENTRY IS ALTERED AS IF THE CLASS FILE HAD CHANGED SINCE THE SNAPSHOT WAS WRITTEN
+		List<String> lines = Files.readAllLines(snapshot.toPath(), StandardCharsets.ISO_8859_1).stream()
+				.map(line -> line.startsWith("@") ? line.substring(0, line.indexOf(' ') + 1)
+						+ Long.toHexString(Long.parseLong(line.substring(line.indexOf(' ') + 1), 16) ^ 1) : line)
+				.collect(Collectors.toList());
+		Files.write(snapshot.toPath(), lines, StandardCharsets.ISO_8859_1);
+
+		Assertions.assertEquals(1, InjectionSnapshot.load(snapshot));
+		Assertions.assertNull(InjectionSnapshot.lookup(Injectable.class));
+		Assertions.assertFalse(InjectionIndex.of(Injectable.class).isIndexed());
+		Assertions.assertNotNull(ReflectionCache.getInjectableConstructor(Injectable.class));
+	}
+
+	@Test
+	public void testEscapedSnapshotEntryUsage(@TempDir File directory) {
+		File snapshot = new File(directory, "snapshot");
+		Assertions.assertEquals(1, InjectionSnapshot.save(snapshot, Collections.singletonList(InjectableWithEscapedField.class)));
+
+		Assertions.assertEquals(1, InjectionSnapshot.load(snapshot));
+		Assertions.assertEquals(InjectionIndex.describe(InjectableWithEscapedField.class),
+				InjectionSnapshot.lookup(InjectableWithEscapedField.class));
+	}
+}
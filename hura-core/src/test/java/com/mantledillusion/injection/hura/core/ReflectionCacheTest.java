@@ -0,0 +1,65 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
+import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
+import com.mantledillusion.injection.hura.core.exception.InjectionException;
+import com.mantledillusion.injection.hura.core.injection.uninjectables.UninjectableWith2InjectableConstructors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+public class ReflectionCacheTest {
+
+	public static class InjectableWithPrimitiveConstructor {
+
+		public final int count;
+		public final long total;
+
+		@Construct
+		public InjectableWithPrimitiveConstructor(@Resolve("count") int count, @Resolve("total") long total) {
+			if (count < 0) {
+				throw new IllegalStateException("negative count");
+			}
+			this.count = count;
+			this.total = total;
+		}
+	}
+
+	@Test
+	public void testPrimitiveConstructorBinding() throws Exception {
+		ReflectionCache.InjectableConstructor<InjectableWithPrimitiveConstructor> constructor =
+				ReflectionCache.getInjectableConstructor(InjectableWithPrimitiveConstructor.class);
+		Assertions.assertTrue(constructor.isBound());
+
+		InjectableWithPrimitiveConstructor injectable = constructor.instantiate(new Object[] { 1, 2L });
+		Assertions.assertEquals(1, injectable.count);
+		Assertions.assertEquals(2L, injectable.total);
+
+		// WIDENING IS LEFT TO REFLECTION
+		injectable = constructor.instantiate(new Object[] { 3, 4 });
+		Assertions.assertEquals(4L, injectable.total);
+	}
+
+	@Test
+	public void testBoundConstructorFailures() {
+		ReflectionCache.InjectableConstructor<InjectableWithPrimitiveConstructor> constructor =
+				ReflectionCache.getInjectableConstructor(InjectableWithPrimitiveConstructor.class);
+
+		InvocationTargetException e = Assertions.assertThrows(InvocationTargetException.class,
+				() -> constructor.instantiate(new Object[] { -1, 0L }));
+		Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> constructor.instantiate(new Object[] { null, 0L }));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> constructor.instantiate(new Object[] { "1", 0L }));
+	}
+
+	@Test
+	public void testBeanDescriptorFailureCaching() {
+		BeanDescriptor<UninjectableWith2InjectableConstructors> descriptor =
+				ReflectionCache.getBeanDescriptor(UninjectableWith2InjectableConstructors.class);
+
+		InjectionException failure = Assertions.assertThrows(InjectionException.class, descriptor::getConstructor);
+		Assertions.assertSame(failure, Assertions.assertThrows(InjectionException.class, descriptor::getConstructor));
+	}
+}
@@ -0,0 +1,53 @@
+package com.mantledillusion.injection.hura.core;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SingletonContextTest {
+
+	@Test
+	public void testStreamSnapshot() {
+		SingletonContext context = new SingletonContext(new Object(), null, null, null);
+		Injectable singletonA = new Injectable();
+		Injectable singletonB = new Injectable();
+		context.addSingleton("singletonA", singletonA, false, true);
+		context.addSingleton("singletonB", singletonB, false, true);
+
+		Stream<Injectable> stream = context.stream(Injectable.class, null);
+		Iterator<Injectable> iterator = stream.iterator();
+		Assertions.assertTrue(iterator.hasNext());
+		iterator.next();
+
+		// SINGLETONS ADDED OR REMOVED WHILE THE STREAM IS CONSUMED DO NOT AFFECT IT
+		context.addSingleton("singletonC", new Injectable(), false, true);
+		context.removeSingleton("singletonB");
+		Assertions.assertTrue(iterator.hasNext());
+		iterator.next();
+		Assertions.assertFalse(iterator.hasNext());
+
+		Assertions.assertEquals(2, context.stream(Injectable.class, null).count());
+		Assertions.assertEquals(Arrays.asList(singletonA), context.stream(Injectable.class, Arrays.asList(
+				(qualifier, bean) -> qualifier.equals("singletonA"))).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testSequentialStream() {
+		SingletonContext context = new SingletonContext(new Object(), null, null, null);
+		for (int i = 0; i < 1024; i++) {
+			context.addSingleton("singleton" + i, new Injectable(), false, true);
+		}
+
+		// PREDICATES OF A STREAM ARE ALWAYS EVALUATED ON THE CONSUMING THREAD, REGARDLESS OF THE COUNT OF CANDIDATES
+		Thread consumer = Thread.currentThread();
+		Stream<Injectable> stream = context.stream(Injectable.class, Arrays.asList(
+				(qualifier, bean) -> Thread.currentThread() == consumer));
+		Assertions.assertFalse(stream.isParallel());
+		Assertions.assertEquals(1024, stream.count());
+		Assertions.assertEquals(1024, context.aggregate(Injectable.class, null).size());
+	}
+}
@@ -8,11 +8,13 @@ import com.mantledillusion.injection.hura.core.adjustment.injectables.Injectable
 import com.mantledillusion.injection.hura.core.adjustment.injectables.InjectableWithExtendingAdjustment;
 import com.mantledillusion.injection.hura.core.adjustment.injectables.InjectableWithAliasAdjustment;
 import com.mantledillusion.injection.hura.core.adjustment.injectables.InjectableWithPropertyAdjustment;
+import com.mantledillusion.injection.hura.core.adjustment.injectables.InjectableWithSiblingAdjustments;
 import com.mantledillusion.injection.hura.core.adjustment.uninjectables.UninjectableWithInjectionlessAdjustment;
 import com.mantledillusion.injection.hura.core.adjustment.uninjectables.UninjectableWithSingletonAdjustment;
 import com.mantledillusion.injection.hura.core.annotation.instruction.Define;
 import com.mantledillusion.injection.hura.core.exception.ProcessorException;
 import com.mantledillusion.injection.hura.core.property.injectables.InjectableWithProperty;
+import com.mantledillusion.injection.hura.core.singleton.injectables.InjectableWithSequenceSingleton;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -62,4 +64,26 @@ public class InjectionAdjustmentTest extends AbstractInjectionTest {
 
 		Assertions.assertTrue(injectable.extendedInjectable.explicitInjectable instanceof InjectableAlternative);
 	}
+
+	@Test
+	public void testSiblingAdjustments() {
+		InjectableWithSiblingAdjustments injectable = this.suite.injectInSuiteContext(
+				InjectableWithSiblingAdjustments.class,
+				Blueprint.PropertyAllocation.of(InjectableWithProperty.PROPERTY_KEY, "default value"),
+				Blueprint.SingletonAllocation.allocateToType(InjectableWithSequenceSingleton.SINGLETON, Injectable.class));
+
+		// ADJUSTMENTS ARE NEITHER VISIBLE TO SIBLINGS NOR TO THE PARENT
+		Assertions.assertEquals(InjectableWithSiblingAdjustments.ADJUSTED_PROPERTY_VALUE_A,
+				injectable.propertiedInjectableA.propertyValue);
+		Assertions.assertEquals(InjectableWithSiblingAdjustments.ADJUSTED_PROPERTY_VALUE_B,
+				injectable.propertiedInjectableB.propertyValue);
+		Assertions.assertEquals("default value", injectable.propertiedInjectable.propertyValue);
+
+		// BUT A SINGLETON ALLOCATION OF THE SEQUENCE IS ONLY ALLOCATED ONCE, NO MATTER WHICH SCOPE USES IT FIRST
+		Assertions.assertNotNull(injectable.singletonedInjectable.sequenceSingleton);
+		Assertions.assertSame(injectable.singletonedInjectable.sequenceSingleton,
+				injectable.singletonedInjectableA.sequenceSingleton);
+		Assertions.assertSame(injectable.singletonedInjectable.sequenceSingleton,
+				injectable.singletonedInjectableB.sequenceSingleton);
+	}
 }
@@ -0,0 +1,34 @@
+package com.mantledillusion.injection.hura.core.adjustment.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Adjust;
+import com.mantledillusion.injection.hura.core.property.injectables.InjectableWithProperty;
+import com.mantledillusion.injection.hura.core.singleton.injectables.InjectableWithSequenceSingleton;
+
+public class InjectableWithSiblingAdjustments {
+
+	public static final String ADJUSTED_PROPERTY_VALUE_A = "adjustedA";
+	public static final String ADJUSTED_PROPERTY_VALUE_B = "adjustedB";
+
+	@Inject
+	@Adjust(properties = @Adjust.PropertyDef(key = InjectableWithProperty.PROPERTY_KEY, value = ADJUSTED_PROPERTY_VALUE_A))
+	public InjectableWithProperty propertiedInjectableA;
+
+	@Inject
+	@Adjust(properties = @Adjust.PropertyDef(key = InjectableWithProperty.PROPERTY_KEY, value = ADJUSTED_PROPERTY_VALUE_B))
+	public InjectableWithProperty propertiedInjectableB;
+
+	@Inject
+	public InjectableWithProperty propertiedInjectable;
+
+	@Inject
+	@Adjust(properties = @Adjust.PropertyDef(key = InjectableWithProperty.PROPERTY_KEY, value = ADJUSTED_PROPERTY_VALUE_A))
+	public InjectableWithSequenceSingleton singletonedInjectableA;
+
+	@Inject
+	@Adjust(properties = @Adjust.PropertyDef(key = InjectableWithProperty.PROPERTY_KEY, value = ADJUSTED_PROPERTY_VALUE_B))
+	public InjectableWithSequenceSingleton singletonedInjectableB;
+
+	@Inject
+	public InjectableWithSequenceSingleton singletonedInjectable;
+}
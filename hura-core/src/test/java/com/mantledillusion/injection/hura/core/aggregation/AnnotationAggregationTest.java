@@ -4,8 +4,10 @@ import com.mantledillusion.injection.hura.core.AbstractInjectionTest;
 import com.mantledillusion.injection.hura.core.Blueprint;
 import com.mantledillusion.injection.hura.core.Injectable;
 import com.mantledillusion.injection.hura.core.InjectableInterfaceImpl;
+import com.mantledillusion.injection.hura.core.Injector;
 import com.mantledillusion.injection.hura.core.aggregation.injectables.*;
 import com.mantledillusion.injection.hura.core.aggregation.misc.PropertyDependentPredicate;
+import com.mantledillusion.injection.hura.core.aggregation.uninjectables.UninjectableWithMutableMemoizedAggregation;
 import com.mantledillusion.injection.hura.core.exception.ProcessorException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -162,4 +164,64 @@ public class AnnotationAggregationTest extends AbstractInjectionTest {
         Assertions.assertEquals(1, injectable.singletons.size());
         Assertions.assertTrue(injectable.singletons.contains(singletonB));
     }
+
+    @Test
+    public void testImmutableAggregation() {
+        Injectable singletonA = new Injectable();
+        Injectable singletonB = new Injectable();
+
+        InjectableWithImmutableAggregation injectable = this.suite.injectInRootContext(InjectableWithImmutableAggregation.class,
+                Blueprint.SingletonAllocation.allocateToInstance("singletonA", singletonA),
+                Blueprint.SingletonAllocation.allocateToInstance("singletonB", singletonB));
+
+        Assertions.assertEquals(2, injectable.listA.size());
+        Assertions.assertTrue(injectable.listA.contains(singletonA));
+        Assertions.assertTrue(injectable.listA.contains(singletonB));
+        Assertions.assertSame(injectable.listA, injectable.listB);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> injectable.listA.add(new Injectable()));
+
+        // AGGREGATIONS THAT ARE NOT MEMOIZED ARE DETERMINED ANEW FOR EVERY FIELD
+        Assertions.assertEquals(injectable.listA, injectable.listC);
+        Assertions.assertNotSame(injectable.listA, injectable.listC);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> injectable.listC.add(new Injectable()));
+
+        Assertions.assertEquals(2, injectable.setA.size());
+        Assertions.assertTrue(injectable.setA.contains(singletonA));
+        Assertions.assertTrue(injectable.setA.contains(singletonB));
+        Assertions.assertSame(injectable.setA, injectable.setB);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> injectable.setA.add(new Injectable()));
+    }
+
+    @Test
+    public void testMutableMemoizedAggregation() {
+        Assertions.assertThrows(ProcessorException.class,
+                () -> this.suite.injectInRootContext(UninjectableWithMutableMemoizedAggregation.class));
+    }
+
+    @Test
+    public void testMemoizedAggregationAcrossSequences() {
+        Injectable singletonA = new Injectable();
+        Injectable singletonB = new Injectable();
+        Injector.RootInjector injector = Injector.of(
+                Blueprint.SingletonAllocation.allocateToInstance("singletonA", singletonA),
+                Blueprint.SingletonAllocation.allocateToInstance("singletonB", singletonB));
+
+        InjectableWithImmutableAggregation first = injector.instantiate(InjectableWithImmutableAggregation.class);
+        InjectableWithImmutableAggregation second = injector.instantiate(InjectableWithImmutableAggregation.class);
+        Assertions.assertEquals(2, first.listA.size());
+        Assertions.assertSame(first.listA, second.listA);
+        Assertions.assertSame(first.setA, second.setA);
+
+        // A SEQUENCE ADDING A SINGLETON CANNOT USE THE COLLECTIONS MEMOIZED FOR ITS PARENT
+        Injectable singletonC = new Injectable();
+        InjectableWithImmutableAggregation third = injector.instantiate(InjectableWithImmutableAggregation.class,
+                Blueprint.SingletonAllocation.allocateToInstance("singletonC", singletonC));
+        Assertions.assertEquals(3, third.listA.size());
+        Assertions.assertTrue(third.listA.contains(singletonC));
+        Assertions.assertNotSame(first.listA, third.listA);
+        Assertions.assertSame(third.listA, third.listB);
+
+        Assertions.assertSame(first.listA, injector.instantiate(InjectableWithImmutableAggregation.class).listA);
+        injector.shutdown();
+    }
 }
@@ -6,7 +6,10 @@ import com.mantledillusion.injection.hura.core.aggregation.injectables.Injectabl
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class InjectorAggregationTest extends AbstractInjectionTest {
 
@@ -45,6 +48,21 @@ public class InjectorAggregationTest extends AbstractInjectionTest {
         Assertions.assertSame(singletonB, allSingletons.stream().findFirst().get());
     }
 
+    @Test
+    public void testAggregationInterfaceFiltering() {
+        Injectable singletonA = new Injectable();
+        InjectableInterfaceImpl singletonB = new InjectableInterfaceImpl();
+
+        InjectableWithInjector injectable = this.suite.injectInRootContext(InjectableWithInjector.class,
+                Blueprint.SingletonAllocation.allocateToInstance("singletonA", singletonA),
+                Blueprint.SingletonAllocation.allocateToInstance("singletonB", singletonB));
+
+        Collection<InjectableInterface> allSingletons = injectable.injector.aggregate(InjectableInterface.class);
+        Assertions.assertEquals(2, allSingletons.size());
+        Assertions.assertTrue(allSingletons.contains(singletonA));
+        Assertions.assertTrue(allSingletons.contains(singletonB));
+    }
+
     @Test
     public void testAggregationQualifierFiltering() {
         Injectable singletonA = new Injectable();
@@ -59,6 +77,32 @@ public class InjectorAggregationTest extends AbstractInjectionTest {
         Assertions.assertSame(singletonB, allSingletons.stream().findFirst().get());
     }
 
+    @Test
+    public void testAggregationHierarchicalQualifierFiltering() {
+        Injectable singletonA = new Injectable();
+        Injectable singletonB = new Injectable();
+        Injectable singletonC = new Injectable();
+
+        InjectableWithInjector injectable = this.suite.injectInRootContext(InjectableWithInjector.class,
+                Blueprint.SingletonAllocation.allocateToInstance("datasource.eu.a", singletonA),
+                Blueprint.SingletonAllocation.allocateToInstance("datasource.eu.b", singletonB),
+                Blueprint.SingletonAllocation.allocateToInstance("datasource.us.a", singletonC));
+
+        Collection<Object> euSingletons = injectable.injector.aggregate("datasource\\.eu\\..*");
+        Assertions.assertEquals(2, euSingletons.size());
+        Assertions.assertTrue(euSingletons.contains(singletonA));
+        Assertions.assertTrue(euSingletons.contains(singletonB));
+
+        Collection<Object> aSingletons = injectable.injector.aggregate("datasource.*a");
+        Assertions.assertEquals(2, aSingletons.size());
+        Assertions.assertTrue(aSingletons.contains(singletonA));
+        Assertions.assertTrue(aSingletons.contains(singletonC));
+
+        Collection<Object> optionalSingletons = injectable.injector.aggregate("datasources?\\.us\\.a|none");
+        Assertions.assertEquals(1, optionalSingletons.size());
+        Assertions.assertSame(singletonC, optionalSingletons.stream().findFirst().get());
+    }
+
     @Test
     public void testAggregationPredicateFiltering() {
         InjectableWithName singletonA = new InjectableWithName("singletonA");
@@ -72,4 +116,28 @@ public class InjectorAggregationTest extends AbstractInjectionTest {
         Assertions.assertEquals(1, allSingletons.size());
         Assertions.assertSame(singletonB, allSingletons.stream().findFirst().get());
     }
+
+    @Test
+    public void testLazyStreamingAggregation() {
+        Injectable singletonA = new Injectable();
+        Injectable singletonB = new Injectable();
+        Injectable singletonC = new Injectable();
+
+        InjectableWithInjector injectable = this.suite.injectInRootContext(InjectableWithInjector.class,
+                Blueprint.SingletonAllocation.allocateToInstance("singletonA", singletonA),
+                Blueprint.SingletonAllocation.allocateToInstance("singletonB", singletonB),
+                Blueprint.SingletonAllocation.allocateToInstance("singletonC", singletonC));
+
+        AtomicInteger evaluations = new AtomicInteger();
+        Assertions.assertTrue(injectable.injector.stream(Injectable.class, (qualifier, bean) -> evaluations.incrementAndGet() > 0)
+                .findFirst().isPresent());
+        Assertions.assertEquals(1, evaluations.get());
+
+        List<Injectable> singletons = new ArrayList<>();
+        injectable.injector.forEach(Injectable.class, singletons::add);
+        Assertions.assertEquals(3, singletons.size());
+        Assertions.assertTrue(singletons.contains(singletonA));
+        Assertions.assertTrue(singletons.contains(singletonB));
+        Assertions.assertTrue(singletons.contains(singletonC));
+    }
 }
@@ -0,0 +1,24 @@
+package com.mantledillusion.injection.hura.core.aggregation.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Aggregate;
+
+import java.util.List;
+import java.util.Set;
+
+public class InjectableWithImmutableAggregation {
+
+    @Aggregate(immutable = true, memoized = true)
+    public List<Object> listA;
+
+    @Aggregate(immutable = true, memoized = true)
+    public List<Object> listB;
+
+    @Aggregate(immutable = true, memoized = true)
+    public Set<Object> setA;
+
+    @Aggregate(immutable = true, memoized = true)
+    public Set<Object> setB;
+
+    @Aggregate(immutable = true)
+    public List<Object> listC;
+}
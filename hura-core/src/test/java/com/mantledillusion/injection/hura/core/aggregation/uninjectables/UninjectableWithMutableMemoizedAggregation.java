@@ -0,0 +1,11 @@
+package com.mantledillusion.injection.hura.core.aggregation.uninjectables;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Aggregate;
+
+import java.util.List;
+
+public class UninjectableWithMutableMemoizedAggregation {
+
+    @Aggregate(memoized = true)
+    public List<Object> singletons;
+}
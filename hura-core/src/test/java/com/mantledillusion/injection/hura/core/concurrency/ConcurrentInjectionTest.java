@@ -0,0 +1,105 @@
+package com.mantledillusion.injection.hura.core.concurrency;
+
+import com.mantledillusion.injection.hura.core.AbstractInjectionTest;
+import com.mantledillusion.injection.hura.core.Injector;
+import com.mantledillusion.injection.hura.core.concurrency.injectables.InjectableWithNestedParallelInjection;
+import com.mantledillusion.injection.hura.core.lifecycle.injectables.InjectableWithDestructionAwareness;
+import com.mantledillusion.injection.hura.core.lifecycle.injectables.InjectableWithDestructionAwareness.InjectableWithDestructableSingleton;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+public class ConcurrentInjectionTest extends AbstractInjectionTest {
+
+	private static final int THREAD_COUNT = 8;
+	private static final int ITERATION_COUNT = 250;
+
+	@Test
+	public void testConcurrentInjection() throws Exception {
+		Injector.RootInjector injector = Injector.of();
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<List<InjectableWithDestructionAwareness>>> futures = new ArrayList<>();
+			for (int thread = 0; thread < THREAD_COUNT; thread++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					List<InjectableWithDestructionAwareness> remaining = new ArrayList<>();
+					for (int iteration = 0; iteration < ITERATION_COUNT; iteration++) {
+						InjectableWithDestructableSingleton injectable = injector.instantiate(InjectableWithDestructableSingleton.class);
+						Assertions.assertNotNull(injectable.singleton);
+						if (iteration % 2 == 0) {
+							injector.destroy(injectable);
+							Assertions.assertTrue(injectable.singleton.wasDestructed);
+						} else {
+							remaining.add(injectable.singleton);
+						}
+					}
+					return remaining;
+				}));
+			}
+			start.countDown();
+
+			Set<InjectableWithDestructionAwareness> singletons = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (Future<List<InjectableWithDestructionAwareness>> future : futures) {
+				singletons.addAll(future.get(30, TimeUnit.SECONDS));
+			}
+			Assertions.assertEquals(THREAD_COUNT * ITERATION_COUNT / 2, singletons.size());
+			Assertions.assertTrue(singletons.stream().noneMatch(singleton -> singleton.wasDestructed));
+
+			injector.destroyAll();
+			Assertions.assertTrue(singletons.stream().allMatch(singleton -> singleton.wasDestructed));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testConcurrentDestructionOfSameBean() throws Exception {
+		Injector.RootInjector injector = Injector.of();
+		InjectableWithDestructableSingleton injectable = injector.instantiate(InjectableWithDestructableSingleton.class);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int thread = 0; thread < THREAD_COUNT; thread++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					try {
+						injector.destroy(injectable);
+						return true;
+					} catch (IllegalArgumentException e) {
+						return false;
+					}
+				}));
+			}
+			start.countDown();
+
+			int destructionCount = 0;
+			for (Future<Boolean> future : futures) {
+				destructionCount += future.get(30, TimeUnit.SECONDS) ? 1 : 0;
+			}
+			Assertions.assertEquals(1, destructionCount);
+			Assertions.assertTrue(injectable.singleton.wasDestructed);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testNestedSequenceInParallelInjection() {
+		Injector.RootInjector injector = Injector.of();
+		InjectableWithNestedParallelInjection.outerInjector = injector;
+		InjectableWithNestedParallelInjection injectable = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> injector.instantiate(InjectableWithNestedParallelInjection.class));
+
+		// FORKED INJECTIONS ARE STILL A PART OF THE OUTER SEQUENCE, SO THEY CANNOT BEGIN ANOTHER ONE EITHER
+		Assertions.assertNotNull(injectable.nested.a.failure);
+		Assertions.assertNotNull(injectable.nested.b.failure);
+	}
+}
@@ -0,0 +1,42 @@
+package com.mantledillusion.injection.hura.core.concurrency.injectables;
+
+import com.mantledillusion.injection.hura.core.Blueprint;
+import com.mantledillusion.injection.hura.core.Injectable;
+import com.mantledillusion.injection.hura.core.Injector;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.exception.InjectionException;
+
+public class InjectableWithNestedParallelInjection {
+
+	public static volatile Injector outerInjector;
+
+	public static class InjectableStartingOuterSequence {
+
+		public final InjectionException failure;
+
+		public InjectableStartingOuterSequence() {
+			InjectionException failure = null;
+			try {
+				outerInjector.instantiate(Injectable.class);
+			} catch (InjectionException e) {
+				failure = e;
+			}
+			this.failure = failure;
+		}
+	}
+
+	public static class InjectableWithParallelInjection {
+
+		@Inject
+		public InjectableStartingOuterSequence a;
+		@Inject
+		public InjectableStartingOuterSequence b;
+	}
+
+	public final InjectableWithParallelInjection nested;
+
+	public InjectableWithNestedParallelInjection() {
+		this.nested = Injector.of().instantiate(InjectableWithParallelInjection.class,
+				Blueprint.PropertyAllocation.of(Injector.PROPERTY_PARALLEL_INJECTION, Boolean.TRUE.toString()));
+	}
+}
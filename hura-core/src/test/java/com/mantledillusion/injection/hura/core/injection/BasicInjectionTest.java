@@ -1,15 +1,33 @@
 package com.mantledillusion.injection.hura.core.injection;
 
 import com.mantledillusion.injection.hura.core.AbstractInjectionTest;
+import com.mantledillusion.injection.hura.core.Blueprint;
+import com.mantledillusion.injection.hura.core.Injectable;
+import com.mantledillusion.injection.hura.core.InjectionStatistics;
+import com.mantledillusion.injection.hura.core.Injector;
 import com.mantledillusion.injection.hura.core.exception.InjectionException;
 import com.mantledillusion.injection.hura.core.exception.ProcessorException;
+import com.mantledillusion.injection.hura.core.injection.injectables.IdentifiableInjectable;
 import com.mantledillusion.injection.hura.core.injection.injectables.InjectableWithAnnotatedConstructor;
 import com.mantledillusion.injection.hura.core.injection.injectables.InjectableWithExplicitIndependent;
 import com.mantledillusion.injection.hura.core.injection.injectables.InjectableWithInjectableConstructor;
 import com.mantledillusion.injection.hura.core.injection.injectables.InjectableWithInjectableField;
+import com.mantledillusion.injection.hura.core.injection.injectables.InjectableWithLazyIndependent;
+import com.mantledillusion.injection.hura.core.injection.injectables.InjectableWithLazyIndependentAndInjector;
 import com.mantledillusion.injection.hura.core.injection.uninjectables.*;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BasicInjectionTest extends AbstractInjectionTest {
 
@@ -25,6 +43,51 @@ public class BasicInjectionTest extends AbstractInjectionTest {
 		Assertions.assertTrue(injectable.wiredField != null);
 	}
 
+	@Test
+	public void testParallelInjection() {
+		InjectableWithInjectableConstructor injectable = this.suite.injectInSuiteContext(InjectableWithInjectableConstructor.class,
+				Blueprint.PropertyAllocation.of(Injector.PROPERTY_PARALLEL_INJECTION, Boolean.TRUE.toString()));
+
+		Assertions.assertTrue(injectable.wiredThroughConstructor != null);
+	}
+
+	@Test
+	public void testPreload() {
+		Injector.PreloadReport report = Injector.preload(Arrays.asList(InjectableWithInjectableField.class, null));
+
+		Assertions.assertEquals(2, report.getTypeCount());
+		Assertions.assertNotNull(report.getDuration());
+		Assertions.assertNotNull(this.suite.injectInSuiteContext(InjectableWithInjectableField.class).wiredField);
+	}
+
+	@Test
+	public void testSnapshot(@TempDir File directory) {
+		this.suite.injectInSuiteContext(InjectableWithInjectableField.class);
+
+		File snapshot = new File(directory, "snapshot");
+		Assertions.assertEquals(0, Injector.loadSnapshot(snapshot));
+
+		int typeCount = Injector.saveSnapshot(snapshot);
+		Assertions.assertTrue(typeCount > 0);
+		Assertions.assertEquals(typeCount, Injector.loadSnapshot(snapshot));
+	}
+
+	@Test
+	public void testStatistics() {
+		this.suite.injectInSuiteContext(InjectableWithInjectableField.class);
+		this.suite.injectInSuiteContext(InjectableWithInjectableField.class);
+
+		InjectionStatistics statistics = Injector.getStatistics();
+		InjectionStatistics.CacheStatistics descriptors = statistics.getReflectionCaches().stream()
+				.filter(cache -> cache.getName().equals("beanDescriptors"))
+				.findFirst()
+				.orElseThrow(IllegalStateException::new);
+		Assertions.assertTrue(descriptors.getHits() > 0);
+		Assertions.assertTrue(descriptors.getMisses() > 0);
+		Assertions.assertTrue(descriptors.getEntries() > 0);
+		Assertions.assertNotNull(statistics.getPluginCache());
+	}
+
 	@Test
 	public void testExceptionThrowingConstructorInjection() {
 		Assertions.assertThrows(InjectionException.class, () -> this.suite.injectInSuiteContext(UninjectableWithExceptionThrowingConstructor.class));
@@ -103,4 +166,108 @@ public class BasicInjectionTest extends AbstractInjectionTest {
 	public void testOptionalIndependentInjectionWithMissingInjectAnnotation() {
 		Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithOptionalInjectableAndMissingInjectAnnotation.class));
 	}
+
+	@Test
+	public void testLazyIndependentInjection() {
+		AtomicInteger instantiationCount = new AtomicInteger();
+		InjectableWithLazyIndependent injectable = this.suite.injectInSuiteContext(InjectableWithLazyIndependent.class,
+				Blueprint.TypeAllocation.allocateToProvider(IdentifiableInjectable.class, callback -> {
+					int id = instantiationCount.incrementAndGet();
+					return () -> id;
+				}));
+
+		Assertions.assertNotNull(injectable.lazyInjectable);
+		Assertions.assertEquals(0, instantiationCount.get());
+		Assertions.assertEquals(1, injectable.lazyInjectable.getId());
+		Assertions.assertEquals(1, injectable.lazyInjectable.getId());
+		Assertions.assertEquals(1, instantiationCount.get());
+
+		this.suite.destroyInSuiteContext(injectable);
+	}
+
+	@Test
+	public void testLazyIndependentExceptionPropagation() {
+		InjectableWithLazyIndependent injectable = this.suite.injectInSuiteContext(InjectableWithLazyIndependent.class,
+				Blueprint.TypeAllocation.allocateToProvider(IdentifiableInjectable.class, callback -> () -> {
+					throw new IllegalStateException();
+				}));
+
+		Assertions.assertThrows(IllegalStateException.class, () -> injectable.lazyInjectable.getId());
+
+		this.suite.destroyInSuiteContext(injectable);
+	}
+
+	@Test
+	public void testConcurrentLazyIndependentInjection() throws Exception {
+		AtomicInteger instantiationCount = new AtomicInteger();
+		InjectableWithLazyIndependent injectable = this.suite.injectInSuiteContext(InjectableWithLazyIndependent.class,
+				Blueprint.TypeAllocation.allocateToProvider(IdentifiableInjectable.class, callback -> {
+					int id = instantiationCount.incrementAndGet();
+					try {
+						Thread.sleep(50);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return () -> id;
+				}));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> injectable.lazyInjectable.getId()));
+			}
+			for (Future<Integer> future : futures) {
+				Assertions.assertEquals(1, future.get(10, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Assertions.assertEquals(1, instantiationCount.get());
+
+		this.suite.destroyInSuiteContext(injectable);
+	}
+
+	@Test
+	public void testLazyIndependentInjectionAfterDestruction() {
+		InjectableWithLazyIndependent injectable = this.suite.injectInSuiteContext(InjectableWithLazyIndependent.class,
+				Blueprint.TypeAllocation.allocateToProvider(IdentifiableInjectable.class, callback -> () -> 1));
+
+		this.suite.destroyInSuiteContext(injectable);
+		Assertions.assertThrows(InjectionException.class, () -> injectable.lazyInjectable.getId());
+	}
+
+	@Test
+	public void testLazyIndependentSingletonScope() {
+		InjectableWithLazyIndependentAndInjector injectable = this.suite.injectInSuiteContext(
+				InjectableWithLazyIndependentAndInjector.class,
+				Blueprint.TypeAllocation.allocateToType(IdentifiableInjectable.class,
+						InjectableWithLazyIndependentAndInjector.IdentifiableInjectableWithSingleton.class));
+
+		// SINGLETONS CREATED ON DEMAND FOR THE LAZY BEAN ARE NOT ADDED TO THE SEQUENCE THAT HAS ALREADY FINISHED
+		Assertions.assertNotEquals(System.identityHashCode(null), injectable.lazyInjectable.getId());
+		Assertions.assertTrue(injectable.injector.aggregate(Injectable.class,
+				(qualifier, bean) -> qualifier.equals(InjectableWithLazyIndependentAndInjector.SINGLETON)).isEmpty());
+		this.suite.destroyInSuiteContext(injectable);
+
+		// BUT SINGLETONS OF THE SEQUENCE ARE USED BY THE LAZY BEAN
+		Injectable singleton = new Injectable();
+		injectable = this.suite.injectInSuiteContext(InjectableWithLazyIndependentAndInjector.class,
+				Blueprint.TypeAllocation.allocateToType(IdentifiableInjectable.class,
+						InjectableWithLazyIndependentAndInjector.IdentifiableInjectableWithSingleton.class),
+				Blueprint.SingletonAllocation.allocateToInstance(InjectableWithLazyIndependentAndInjector.SINGLETON, singleton));
+		Assertions.assertEquals(System.identityHashCode(singleton), injectable.lazyInjectable.getId());
+		this.suite.destroyInSuiteContext(injectable);
+	}
+
+	@Test
+	public void testLazyClassTypedInjection() {
+		Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithLazyClassTypedInjectable.class));
+	}
+
+	@Test
+	public void testLazyNonPublicTypedInjection() {
+		Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithLazyNonPublicTypedInjectable.class));
+	}
 }
+
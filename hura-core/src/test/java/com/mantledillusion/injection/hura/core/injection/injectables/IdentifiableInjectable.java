@@ -0,0 +1,6 @@
+package com.mantledillusion.injection.hura.core.injection.injectables;
+
+public interface IdentifiableInjectable {
+
+	int getId();
+}
@@ -0,0 +1,11 @@
+package com.mantledillusion.injection.hura.core.injection.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
+
+public class InjectableWithLazyIndependent {
+
+	@Inject
+	@Lazy
+	public IdentifiableInjectable lazyInjectable;
+}
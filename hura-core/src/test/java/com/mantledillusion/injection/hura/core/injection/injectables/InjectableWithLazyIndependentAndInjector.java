@@ -0,0 +1,31 @@
+package com.mantledillusion.injection.hura.core.injection.injectables;
+
+import com.mantledillusion.injection.hura.core.Injectable;
+import com.mantledillusion.injection.hura.core.Injector;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
+
+public class InjectableWithLazyIndependentAndInjector {
+
+	public static final String SINGLETON = "lazySingleton";
+
+	public static class IdentifiableInjectableWithSingleton implements IdentifiableInjectable {
+
+		@Inject
+		@Qualifier(SINGLETON)
+		public Injectable singleton;
+
+		@Override
+		public int getId() {
+			return System.identityHashCode(this.singleton);
+		}
+	}
+
+	@Inject
+	@Lazy
+	public IdentifiableInjectable lazyInjectable;
+
+	@Inject
+	public Injector injector;
+}
@@ -0,0 +1,12 @@
+package com.mantledillusion.injection.hura.core.injection.uninjectables;
+
+import com.mantledillusion.injection.hura.core.Injectable;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
+
+public class UninjectableWithLazyClassTypedInjectable {
+
+	@Inject
+	@Lazy
+	public Injectable injectable;
+}
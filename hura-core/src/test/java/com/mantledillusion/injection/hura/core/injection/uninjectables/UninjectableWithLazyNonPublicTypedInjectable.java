@@ -0,0 +1,16 @@
+package com.mantledillusion.injection.hura.core.injection.uninjectables;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Lazy;
+
+public class UninjectableWithLazyNonPublicTypedInjectable {
+
+	interface NonPublicInjectable {
+
+		void run();
+	}
+
+	@Inject
+	@Lazy
+	public NonPublicInjectable injectable;
+}
@@ -3,19 +3,28 @@ package com.mantledillusion.injection.hura.core.lifecycle;
 import com.mantledillusion.injection.hura.core.*;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
 import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.BeanProcessor;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+import com.mantledillusion.injection.hura.core.exception.DestructionException;
 import com.mantledillusion.injection.hura.core.exception.ProcessorException;
 import com.mantledillusion.injection.hura.core.exception.ShutdownException;
 import com.mantledillusion.injection.hura.core.lifecycle.injectables.*;
 import com.mantledillusion.injection.hura.core.lifecycle.misc.PhasedProcessedLifecycleInjectableBlueprint;
+import com.mantledillusion.injection.hura.core.lifecycle.misc.StatelessBeanProcessor;
+import com.mantledillusion.injection.hura.core.lifecycle.uninjectables.UninjectableWithFailingAsyncPostConstruct;
 import com.mantledillusion.injection.hura.core.lifecycle.uninjectables.UninjectableWithFailingProcessor;
+import com.mantledillusion.injection.hura.core.lifecycle.uninjectables.UninjectableWithInjectingStatelessProcessor;
 import com.mantledillusion.injection.hura.core.lifecycle.uninjectables.UninjectableWithManualInjectionOnInjectedInjectorDuringInjectPhase;
 import com.mantledillusion.injection.hura.core.lifecycle.uninjectables.UninjectableWithStaticProcessMethod;
 import com.mantledillusion.injection.hura.core.lifecycle.uninjectables.UninjectableWithWrongTypeParameterProcessMethod;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class LifecycleTest extends AbstractInjectionTest {
 
@@ -54,6 +63,18 @@ public class LifecycleTest extends AbstractInjectionTest {
         Assertions.assertEquals(PHASES_WITH_PRECONSTRUCT, AbstractLifecycleInjectable.PHASES.get(PhasedProcessedLifecycleInjectable.class));
     }
 
+    @Test
+    public void testStatelessProcessorSharing() {
+        this.suite.injectInSuiteContext(StatelessProcessedInjectable.class);
+        this.suite.injectInSuiteContext(StatelessProcessedInjectable.class);
+        Assertions.assertEquals(1, StatelessBeanProcessor.INSTANCES.size());
+    }
+
+    @Test
+    public void testInjectingStatelessProcessor() {
+        Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithInjectingStatelessProcessor.class));
+    }
+
     @Test
     public void testStaticPostProcessMethodInjection() {
         Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithStaticProcessMethod.class));
@@ -132,6 +153,25 @@ public class LifecycleTest extends AbstractInjectionTest {
         Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithFailingProcessor.class));
     }
 
+    @Test
+    public void testAsyncPostConstructProcessing() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            InjectableWithAsyncPostConstruct injectable = this.suite.injectInSuiteContext(InjectableWithAsyncPostConstruct.class,
+                    Blueprint.SingletonAllocation.allocateToInstance(PostConstruct.QUALIFIER_EXECUTOR, executor));
+            Assertions.assertTrue(injectable.firstConstructed);
+            Assertions.assertTrue(injectable.secondConstructed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailingAsyncPostConstructProcessing() {
+        Assertions.assertThrows(ProcessorException.class, () -> this.suite.injectInSuiteContext(UninjectableWithFailingAsyncPostConstruct.class));
+        Assertions.assertTrue(UninjectableWithFailingAsyncPostConstruct.wasDestructed);
+    }
+
     @Test
     public void testUnknownInstanceDestruction() {
         Assertions.assertThrows(IllegalArgumentException.class, () -> this.suite.destroyInSuiteContext(new Object()));
@@ -169,6 +209,60 @@ public class LifecycleTest extends AbstractInjectionTest {
         Assertions.assertTrue(injectable.wasDestructed);
     }
 
+    @Test
+    public void testParallelDestruction() {
+        Injector.RootInjector rootInjector = Injector.of();
+        InjectableWithDestructionAwareness a = rootInjector.instantiate(InjectableWithDestructionAwareness.class);
+        InjectableWithDestructionAwareness b = rootInjector.instantiate(InjectableWithDestructionAwareness.class);
+        InjectableWithDestructionAwareness c = rootInjector.instantiate(InjectableWithDestructionAwareness.class);
+
+        Set<Object> unfinished = rootInjector.destroyAll(2, Duration.ofSeconds(5), Duration.ofSeconds(10));
+        Assertions.assertTrue(unfinished.isEmpty());
+        Assertions.assertTrue(a.wasDestructed);
+        Assertions.assertTrue(b.wasDestructed);
+        Assertions.assertTrue(c.wasDestructed);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rootInjector.destroy(a));
+        rootInjector.shutdown();
+    }
+
+    @Test
+    public void testTimedOutParallelDestruction() throws InterruptedException {
+        Injector.RootInjector rootInjector = Injector.of();
+        InjectableWithDestructionAwareness destructable = rootInjector.instantiate(InjectableWithDestructionAwareness.class);
+        InjectableWithBlockingDestruction blocking = rootInjector.instantiate(InjectableWithBlockingDestruction.class);
+
+        Set<Object> unfinished = rootInjector.shutdown(2, Duration.ofMillis(100), Duration.ofSeconds(5));
+        Assertions.assertEquals(1, unfinished.size());
+        Assertions.assertSame(blocking, unfinished.iterator().next());
+        Assertions.assertTrue(destructable.wasDestructed);
+        Assertions.assertFalse(rootInjector.isActive());
+
+        blocking.release.countDown();
+        for (int i = 0; i < 50 && !blocking.wasPostDestructed; i++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertTrue(blocking.wasPostDestructed);
+    }
+
+    @Test
+    public void testFailingParallelDestruction() throws InterruptedException {
+        Injector.RootInjector rootInjector = Injector.of();
+        rootInjector.instantiate(InjectableWithFailingDestruction.class);
+        InjectableWithBlockingDestruction blocking = rootInjector.instantiate(InjectableWithBlockingDestruction.class);
+
+        DestructionException e = Assertions.assertThrows(DestructionException.class,
+                () -> rootInjector.shutdown(2, Duration.ofMillis(100), Duration.ofSeconds(5)));
+        Assertions.assertEquals(1, e.getUnfinished().size());
+        Assertions.assertSame(blocking, e.getUnfinished().iterator().next());
+        Assertions.assertFalse(rootInjector.isActive());
+
+        blocking.release.countDown();
+        for (int i = 0; i < 50 && !blocking.wasPostDestructed; i++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertTrue(blocking.wasPostDestructed);
+    }
+
     @Test
     public void testSingletonDestruction() {
         InjectableWithDestructionAwareness.InjectableWithDestructableSingletonAndInjector injectable =
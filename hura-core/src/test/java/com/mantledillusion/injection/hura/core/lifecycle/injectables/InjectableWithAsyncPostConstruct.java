@@ -0,0 +1,26 @@
+package com.mantledillusion.injection.hura.core.lifecycle.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class InjectableWithAsyncPostConstruct {
+
+	private final CountDownLatch latch = new CountDownLatch(2);
+
+	public boolean firstConstructed = false;
+	public boolean secondConstructed = false;
+
+	@PostConstruct(async = true)
+	private void constructFirst() throws InterruptedException {
+		this.latch.countDown();
+		this.firstConstructed = this.latch.await(5, TimeUnit.SECONDS);
+	}
+
+	@PostConstruct(async = true)
+	private void constructSecond() throws InterruptedException {
+		this.latch.countDown();
+		this.secondConstructed = this.latch.await(5, TimeUnit.SECONDS);
+	}
+}
@@ -0,0 +1,25 @@
+package com.mantledillusion.injection.hura.core.lifecycle.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostDestroy;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
+
+import java.util.concurrent.CountDownLatch;
+
+public class InjectableWithBlockingDestruction {
+
+	public final CountDownLatch release = new CountDownLatch(1);
+
+	public volatile boolean wasPreDestructed = false;
+	public volatile boolean wasPostDestructed = false;
+
+	@PreDestroy
+	private void preDestroy() throws InterruptedException {
+		this.release.await();
+		this.wasPreDestructed = true;
+	}
+
+	@PostDestroy
+	private void postDestroy() {
+		this.wasPostDestructed = this.wasPreDestructed;
+	}
+}
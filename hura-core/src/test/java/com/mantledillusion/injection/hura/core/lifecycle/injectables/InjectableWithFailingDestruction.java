@@ -0,0 +1,11 @@
+package com.mantledillusion.injection.hura.core.lifecycle.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
+
+public class InjectableWithFailingDestruction {
+
+	@PreDestroy
+	private void preDestroy() {
+		throw new IllegalStateException();
+	}
+}
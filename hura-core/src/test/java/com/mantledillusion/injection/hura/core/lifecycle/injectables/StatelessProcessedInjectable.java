@@ -0,0 +1,11 @@
+package com.mantledillusion.injection.hura.core.lifecycle.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostInject;
+import com.mantledillusion.injection.hura.core.lifecycle.misc.StatelessBeanProcessor;
+
+@PostInject(StatelessBeanProcessor.class)
+@PostConstruct(StatelessBeanProcessor.class)
+public class StatelessProcessedInjectable {
+
+}
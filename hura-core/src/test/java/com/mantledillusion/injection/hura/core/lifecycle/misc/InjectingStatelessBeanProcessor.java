@@ -0,0 +1,19 @@
+package com.mantledillusion.injection.hura.core.lifecycle.misc;
+
+import com.mantledillusion.injection.hura.core.Injectable;
+import com.mantledillusion.injection.hura.core.Injector;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.BeanProcessor;
+
+@Stateless
+public class InjectingStatelessBeanProcessor implements BeanProcessor<Object> {
+
+    @Inject
+    public Injectable injectable;
+
+    @Override
+    public void process(Phase phase, Object bean, Injector.TemporalInjectorCallback callback) throws Exception {
+    }
+}
@@ -0,0 +1,21 @@
+package com.mantledillusion.injection.hura.core.lifecycle.misc;
+
+import com.mantledillusion.injection.hura.core.Injector;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Stateless;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.BeanProcessor;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+@Stateless
+public class StatelessBeanProcessor implements BeanProcessor<Object> {
+
+    public static final Set<StatelessBeanProcessor> INSTANCES = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    @Override
+    public void process(Phase phase, Object bean, Injector.TemporalInjectorCallback callback) throws Exception {
+        INSTANCES.add(this);
+    }
+}
@@ -0,0 +1,19 @@
+package com.mantledillusion.injection.hura.core.lifecycle.uninjectables;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
+
+public class UninjectableWithFailingAsyncPostConstruct {
+
+	public static boolean wasDestructed = false;
+
+	@PostConstruct(async = true)
+	private void construct() {
+		throw new RuntimeException("Exception during asynchronous processing.");
+	}
+
+	@PreDestroy
+	private void destruct() {
+		wasDestructed = true;
+	}
+}
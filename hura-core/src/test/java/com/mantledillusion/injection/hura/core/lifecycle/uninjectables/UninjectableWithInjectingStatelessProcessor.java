@@ -0,0 +1,9 @@
+package com.mantledillusion.injection.hura.core.lifecycle.uninjectables;
+
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+import com.mantledillusion.injection.hura.core.lifecycle.misc.InjectingStatelessBeanProcessor;
+
+@PostConstruct(InjectingStatelessBeanProcessor.class)
+public class UninjectableWithInjectingStatelessProcessor {
+
+}
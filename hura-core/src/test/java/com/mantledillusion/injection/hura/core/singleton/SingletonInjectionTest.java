@@ -12,6 +12,8 @@ import com.mantledillusion.injection.hura.core.singleton.uninjectables.Uninjecta
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 public class SingletonInjectionTest extends AbstractInjectionTest {
 
 	@Test
@@ -31,6 +33,28 @@ public class SingletonInjectionTest extends AbstractInjectionTest {
 		Assertions.assertSame(singleton, childB.sequenceSingleton);
 	}
 
+	@Test
+	public void testParallelSequenceSingletonInjection() {
+		for (int i = 0; i < 100; i++) {
+			InjectableWithSequenceSingletonInjectables injectable = this.suite
+					.injectInSuiteContext(InjectableWithSequenceSingletonInjectables.class,
+							Blueprint.PropertyAllocation.of(Injector.PROPERTY_PARALLEL_INJECTION, Boolean.TRUE.toString()));
+
+			Assertions.assertNotNull(injectable.a.sequenceSingleton);
+			Assertions.assertSame(injectable.a.sequenceSingleton, injectable.b.sequenceSingleton);
+		}
+	}
+
+	@Test
+	public void testParallelCrossedSingletonInjection() {
+		InjectableWithCrossedSingletons injectable = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+				() -> this.suite.injectInSuiteContext(InjectableWithCrossedSingletons.class,
+						Blueprint.PropertyAllocation.of(Injector.PROPERTY_PARALLEL_INJECTION, Boolean.TRUE.toString())));
+
+		Assertions.assertSame(injectable.a.x, injectable.b.y.x);
+		Assertions.assertSame(injectable.b.y, injectable.a.x.y);
+	}
+
 	@Test
 	public void testSingletonAllocationOverride() {
 		InjectableWithSingletonAllocationRequiredAndInjector injectable = this.suite
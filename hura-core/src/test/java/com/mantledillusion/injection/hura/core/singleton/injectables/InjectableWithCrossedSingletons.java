@@ -0,0 +1,52 @@
+package com.mantledillusion.injection.hura.core.singleton.injectables;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.injection.Qualifier;
+
+public class InjectableWithCrossedSingletons {
+
+	public static final String SINGLETON_X = "singletonX";
+	public static final String SINGLETON_Y = "singletonY";
+
+	public static class SingletonX {
+
+		@Inject
+		@Qualifier(SINGLETON_Y)
+		public SingletonY y;
+
+		public SingletonX() throws InterruptedException {
+			Thread.sleep(50);
+		}
+	}
+
+	public static class SingletonY {
+
+		@Inject
+		@Qualifier(SINGLETON_X)
+		public SingletonX x;
+
+		public SingletonY() throws InterruptedException {
+			Thread.sleep(50);
+		}
+	}
+
+	public static class InjectableWithSingletonX {
+
+		@Inject
+		@Qualifier(SINGLETON_X)
+		public SingletonX x;
+	}
+
+	public static class InjectableWithSingletonY {
+
+		@Inject
+		@Qualifier(SINGLETON_Y)
+		public SingletonY y;
+	}
+
+	@Inject
+	public InjectableWithSingletonX a;
+
+	@Inject
+	public InjectableWithSingletonY b;
+}
@@ -0,0 +1,256 @@
+package com.mantledillusion.injection.hura.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Processor} writing a per-type injection metadata index at compile time.
+ * <p>
+ * For every type declaring injection relevant members, a properties resource is written to
+ * {@link #RESOURCE_PREFIX} + the type's binary name, listing:<br>
+ * - the constructor Hura will use for injection, if it can be determined unambiguously<br>
+ * - the type's declared fields annotated with @Resolve, @Inject/@Plugin and @Aggregate<br>
+ * - the type's declared methods annotated with lifecycle annotations, @Subscribe or @Define
+ * <p>
+ * At runtime, Hura's reflection cache uses the index instead of scanning a type reflectively; types without an
+ * index entry are scanned as usual.
+ */
+@SupportedAnnotationTypes({
+		InjectionIndexProcessor.ANNOTATION_CONSTRUCT,
+		InjectionIndexProcessor.ANNOTATION_INJECT,
+		InjectionIndexProcessor.ANNOTATION_PLUGIN,
+		InjectionIndexProcessor.ANNOTATION_RESOLVE,
+		InjectionIndexProcessor.ANNOTATION_AGGREGATE,
+		InjectionIndexProcessor.ANNOTATION_PACKAGE_BEAN_LIFECYCLE + "PreConstruct",
+		InjectionIndexProcessor.ANNOTATION_PACKAGE_BEAN_LIFECYCLE + "PostInject",
+		InjectionIndexProcessor.ANNOTATION_PACKAGE_BEAN_LIFECYCLE + "PostConstruct",
+		InjectionIndexProcessor.ANNOTATION_PACKAGE_BEAN_LIFECYCLE + "PreDestroy",
+		InjectionIndexProcessor.ANNOTATION_PACKAGE_BEAN_LIFECYCLE + "PostDestroy",
+		InjectionIndexProcessor.ANNOTATION_SUBSCRIBE,
+		InjectionIndexProcessor.ANNOTATION_DEFINE
+})
+public class InjectionIndexProcessor extends AbstractProcessor {
+
+	static final String ANNOTATION_PACKAGE = "com.mantledillusion.injection.hura.core.annotation.";
+	static final String ANNOTATION_PACKAGE_BEAN_LIFECYCLE = ANNOTATION_PACKAGE + "lifecycle.bean.";
+	static final String ANNOTATION_CONSTRUCT = ANNOTATION_PACKAGE + "instruction.Construct";
+	static final String ANNOTATION_DEFINE = ANNOTATION_PACKAGE + "instruction.Define";
+	static final String ANNOTATION_INJECT = ANNOTATION_PACKAGE + "injection.Inject";
+	static final String ANNOTATION_PLUGIN = ANNOTATION_PACKAGE + "injection.Plugin";
+	static final String ANNOTATION_AGGREGATE = ANNOTATION_PACKAGE + "injection.Aggregate";
+	static final String ANNOTATION_RESOLVE = ANNOTATION_PACKAGE + "property.Resolve";
+	static final String ANNOTATION_SUBSCRIBE = ANNOTATION_PACKAGE + "event.Subscribe";
+
+	/*
+	 * The format of the index has to match the one read by the InjectionIndex of hura-core.
+	 */
+	static final String RESOURCE_PREFIX = "META-INF/hura/index/";
+	static final String RESOURCE_MARKER = "META-INF/hura/indexed";
+	static final String KEY_CONSTRUCTOR = "constructor";
+	static final String KEY_RESOLVABLE_FIELDS = "fields.resolvable";
+	static final String KEY_INJECTABLE_FIELDS = "fields.injectable";
+	static final String KEY_AGGREGATEABLE_FIELDS = "fields.aggregateable";
+	static final String KEY_METHODS_PREFIX = "methods.";
+	static final String SEPARATOR_ELEMENTS = ";";
+	static final String SEPARATOR_PARAMETERS = ",";
+
+	private final Set<String> indexedTypes = new HashSet<>();
+	private boolean isMarked;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		Set<TypeElement> types = new LinkedHashSet<>();
+		for (TypeElement annotation : annotations) {
+			for (Element e : roundEnv.getElementsAnnotatedWith(annotation)) {
+				TypeElement type = findType(e);
+				if (type != null && type.getKind() != ElementKind.ANNOTATION_TYPE) {
+					types.add(type);
+				}
+			}
+		}
+
+		for (TypeElement type : types) {
+			String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+			if (this.indexedTypes.add(binaryName)) {
+				write(type, binaryName);
+			}
+		}
+
+		if (!this.indexedTypes.isEmpty() && !this.isMarked) {
+			mark();
+		}
+
+		return false;
+	}
+
+	private static TypeElement findType(Element e) {
+		while (e != null && !(e instanceof TypeElement)) {
+			e = e.getEnclosingElement();
+		}
+		return (TypeElement) e;
+	}
+
+	private void write(TypeElement type, String binaryName) {
+		Map<String, String> index = new LinkedHashMap<>();
+
+		String constructor = findConstructor(type);
+		if (constructor != null) {
+			index.put(KEY_CONSTRUCTOR, constructor);
+		}
+
+		List<VariableElement> fields = ElementFilter.fieldsIn(type.getEnclosedElements());
+		index.put(KEY_RESOLVABLE_FIELDS, joinFields(fields, ANNOTATION_RESOLVE));
+		index.put(KEY_INJECTABLE_FIELDS, joinFields(fields, ANNOTATION_INJECT, ANNOTATION_PLUGIN));
+		index.put(KEY_AGGREGATEABLE_FIELDS, joinFields(fields, ANNOTATION_AGGREGATE));
+
+		Map<String, List<String>> methods = new TreeMap<>();
+		for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+			for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+				String annotationType = toBinaryName(annotation.getAnnotationType());
+				if (annotationType.startsWith(ANNOTATION_PACKAGE_BEAN_LIFECYCLE)
+						|| annotationType.equals(ANNOTATION_SUBSCRIBE) || annotationType.equals(ANNOTATION_DEFINE)) {
+					methods.computeIfAbsent(annotationType, a -> new ArrayList<>())
+							.add(method.getSimpleName() + "(" + joinParameters(method) + ")");
+				}
+			}
+		}
+		methods.forEach((annotationType, signatures) ->
+				index.put(KEY_METHODS_PREFIX + annotationType, String.join(SEPARATOR_ELEMENTS, signatures)));
+
+		try {
+			FileObject resource = this.processingEnv.getFiler()
+					.createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE_PREFIX + binaryName, type);
+			try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.ISO_8859_1)) {
+				for (Map.Entry<String, String> entry : index.entrySet()) {
+					writer.write(entry.getKey() + '=' + entry.getValue() + '\n');
+				}
+			}
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+					"Unable to write the injection index of " + binaryName + "; it will be scanned at runtime: " + e.getMessage(), type);
+		}
+	}
+
+	/*
+	 * The marker tells the runtime that the class path contains an index at all, so class loaders without one are not
+	 * searched for an entry of every single type.
+	 */
+	private void mark() {
+		this.isMarked = true;
+		try {
+			this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", RESOURCE_MARKER)
+					.openOutputStream().close();
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+					"Unable to write the injection index marker; the index will not be used at runtime: " + e.getMessage());
+		}
+	}
+
+	/*
+	 * Mirrors the constructor choice made at runtime; if the choice is ambiguous or would fail, nothing is indexed
+	 * so the runtime scan will report the problem.
+	 */
+	private String findConstructor(TypeElement type) {
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+
+		List<ExecutableElement> candidates = constructors.stream()
+				.filter(c -> isAnnotated(c, ANNOTATION_CONSTRUCT))
+				.collect(Collectors.toList());
+
+		if (candidates.isEmpty()) {
+			candidates = constructors.stream()
+					.filter(c -> c.getParameters().stream()
+							.allMatch(p -> isAnnotated(p, ANNOTATION_INJECT, ANNOTATION_PLUGIN, ANNOTATION_RESOLVE)))
+					.collect(Collectors.toList());
+
+			if (candidates.size() == 1 && candidates.get(0).getParameters().isEmpty()
+					&& !candidates.get(0).getModifiers().contains(Modifier.PUBLIC)) {
+				return null;
+			}
+		}
+
+		return candidates.size() == 1 ? joinParameters(candidates.get(0)) : null;
+	}
+
+	private String joinFields(List<VariableElement> fields, String... annotationTypes) {
+		return fields.stream()
+				.filter(field -> isAnnotated(field, annotationTypes))
+				.map(field -> field.getSimpleName().toString())
+				.collect(Collectors.joining(SEPARATOR_ELEMENTS));
+	}
+
+	private String joinParameters(ExecutableElement executable) {
+		return executable.getParameters().stream()
+				.map(p -> toBinaryName(this.processingEnv.getTypeUtils().erasure(p.asType())))
+				.collect(Collectors.joining(SEPARATOR_PARAMETERS));
+	}
+
+	private boolean isAnnotated(Element e, String... annotationTypes) {
+		List<String> types = Arrays.asList(annotationTypes);
+		return e.getAnnotationMirrors().stream()
+				.anyMatch(a -> types.contains(toBinaryName(a.getAnnotationType())));
+	}
+
+	/*
+	 * Returns the name Class.forName() is able to load the type by.
+	 */
+	private String toBinaryName(TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return type.toString();
+		} else if (type.getKind() == TypeKind.ARRAY) {
+			return "[" + toDescriptor(((ArrayType) type).getComponentType());
+		} else if (type.getKind() == TypeKind.DECLARED) {
+			return this.processingEnv.getElementUtils()
+					.getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+		}
+		return type.toString();
+	}
+
+	private String toDescriptor(TypeMirror type) {
+		switch (type.getKind()) {
+			case BOOLEAN:
+				return "Z";
+			case BYTE:
+				return "B";
+			case CHAR:
+				return "C";
+			case SHORT:
+				return "S";
+			case INT:
+				return "I";
+			case LONG:
+				return "J";
+			case FLOAT:
+				return "F";
+			case DOUBLE:
+				return "D";
+			case ARRAY:
+				return "[" + toDescriptor(((ArrayType) type).getComponentType());
+			default:
+				return "L" + toBinaryName(this.processingEnv.getTypeUtils().erasure(type)) + ";";
+		}
+	}
+}
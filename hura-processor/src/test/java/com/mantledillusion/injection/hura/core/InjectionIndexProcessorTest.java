@@ -0,0 +1,114 @@
+package com.mantledillusion.injection.hura.core;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.processor.InjectionIndexProcessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+
+/*
+ * Resides in hura-core's package, so the index written by the processor can be compared with the description
+ * InjectionIndex derives from a runtime scan of the same type.
+ */
+public class InjectionIndexProcessorTest {
+
+	private static final List<String> SAMPLES = Arrays.asList("Dependency", "ConstructAnnotatedBean",
+			"InjectableConstructorBean", "AmbiguousConstructorBean", "NonPublicDefaultConstructorBean");
+
+	@Test
+	public void testIndexMatchesRuntimeScan(@TempDir File directory) throws Exception {
+		File classes = compile(directory);
+
+		// THE INDEX IS MOVED OUT OF THE CLASS PATH, OTHERWISE THE RUNTIME SCAN WOULD JUST READ IT
+		File index = new File(directory, "index");
+		Files.move(new File(classes, "META-INF/hura").toPath(), index.toPath());
+		Assertions.assertTrue(new File(index, "indexed").isFile());
+		Assertions.assertFalse(new File(index, "index/sample.Dependency").exists());
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classes.toURI().toURL() },
+				getClass().getClassLoader())) {
+			for (String typeName : Arrays.asList("sample.ConstructAnnotatedBean", "sample.InjectableConstructorBean",
+					"sample.InjectableConstructorBean$Nested", "sample.AmbiguousConstructorBean",
+					"sample.NonPublicDefaultConstructorBean")) {
+				Class<?> type = Class.forName(typeName, false, classLoader);
+				Properties indexed = load(new File(index, "index/" + typeName));
+				Assertions.assertEquals(toElements(InjectionIndex.describe(type)), toElements(indexed), typeName);
+			}
+		}
+	}
+
+	@Test
+	public void testIndexedConstructorChoice(@TempDir File directory) throws Exception {
+		File index = new File(compile(directory), "META-INF/hura/index");
+
+		Assertions.assertEquals("sample.Dependency,int", load(new File(index, "sample.ConstructAnnotatedBean"))
+				.getProperty(InjectionIndex.KEY_CONSTRUCTOR));
+		Assertions.assertEquals("sample.Dependency,boolean", load(new File(index, "sample.InjectableConstructorBean"))
+				.getProperty(InjectionIndex.KEY_CONSTRUCTOR));
+		Assertions.assertEquals("", load(new File(index, "sample.InjectableConstructorBean$Nested"))
+				.getProperty(InjectionIndex.KEY_CONSTRUCTOR));
+		Assertions.assertNull(load(new File(index, "sample.AmbiguousConstructorBean"))
+				.getProperty(InjectionIndex.KEY_CONSTRUCTOR));
+		Assertions.assertNull(load(new File(index, "sample.NonPublicDefaultConstructorBean"))
+				.getProperty(InjectionIndex.KEY_CONSTRUCTOR));
+	}
+
+	private File compile(File directory) throws Exception {
+		File sources = new File(directory, "sources");
+		File classes = new File(directory, "classes");
+		Assertions.assertTrue(sources.mkdirs() && classes.mkdirs());
+
+		List<File> files = new ArrayList<>();
+		for (String sample : SAMPLES) {
+			File file = new File(sources, sample + ".java");
+			try (InputStream in = getClass().getResourceAsStream("/sample/" + sample + ".java")) {
+				Files.copy(in, file.toPath());
+			}
+			files.add(file);
+		}
+
+		String classPath = new File(Inject.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+					Arrays.asList("-classpath", classPath, "-d", classes.getPath()), null,
+					fileManager.getJavaFileObjectsFromFiles(files));
+			task.setProcessors(Collections.singletonList(new InjectionIndexProcessor()));
+			Assertions.assertTrue(task.call());
+		}
+		return classes;
+	}
+
+	private static Properties load(File file) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(file)) {
+			properties.load(in);
+		}
+		return properties;
+	}
+
+	/*
+	 * The order of the listed fields and methods depends on the order they are reflected in.
+	 */
+	private static Map<String, Set<String>> toElements(Properties properties) {
+		Map<String, Set<String>> elements = new TreeMap<>();
+		for (String key : properties.stringPropertyNames()) {
+			elements.put(key, new TreeSet<>(Arrays.asList(properties.getProperty(key).split(";"))));
+		}
+		return elements;
+	}
+}
@@ -0,0 +1,15 @@
+package sample;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+
+public class AmbiguousConstructorBean {
+
+	@Inject
+	private Dependency dependency;
+
+	public AmbiguousConstructorBean() {
+	}
+
+	public AmbiguousConstructorBean(@Inject Dependency dependency) {
+	}
+}
@@ -0,0 +1,40 @@
+package sample;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Aggregate;
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.instruction.Construct;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.Phase;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PostConstruct;
+import com.mantledillusion.injection.hura.core.annotation.lifecycle.bean.PreDestroy;
+import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
+
+import java.util.List;
+
+public class ConstructAnnotatedBean {
+
+	@Inject
+	private Dependency injected;
+
+	@Resolve("property")
+	private String resolved;
+
+	@Aggregate
+	private List<Dependency> aggregated;
+
+	private String unannotated;
+
+	public ConstructAnnotatedBean() {
+	}
+
+	@Construct
+	private ConstructAnnotatedBean(@Inject Dependency dependency, @Resolve("count") int count) {
+	}
+
+	@PostConstruct
+	private void initialize() {
+	}
+
+	@PreDestroy
+	private void release(Phase phase) {
+	}
+}
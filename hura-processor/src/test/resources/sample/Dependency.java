@@ -0,0 +1,5 @@
+package sample;
+
+public class Dependency {
+
+}
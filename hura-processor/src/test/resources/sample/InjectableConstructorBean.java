@@ -0,0 +1,19 @@
+package sample;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+import com.mantledillusion.injection.hura.core.annotation.property.Resolve;
+
+public class InjectableConstructorBean {
+
+	public static class Nested {
+
+		@Inject
+		private Dependency dependency;
+	}
+
+	public InjectableConstructorBean(String unannotated) {
+	}
+
+	InjectableConstructorBean(@Inject Dependency dependency, @Resolve("flag") boolean flag) {
+	}
+}
@@ -0,0 +1,12 @@
+package sample;
+
+import com.mantledillusion.injection.hura.core.annotation.injection.Inject;
+
+public class NonPublicDefaultConstructorBean {
+
+	@Inject
+	private Dependency dependency;
+
+	private NonPublicDefaultConstructorBean() {
+	}
+}